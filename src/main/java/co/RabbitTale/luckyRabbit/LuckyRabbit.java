@@ -1,11 +1,14 @@
 package co.RabbitTale.luckyRabbit;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import co.RabbitTale.luckyRabbit.api.AsyncLuckyRabbitAPIImpl;
 import co.RabbitTale.luckyRabbit.api.FeatureManager;
 import co.RabbitTale.luckyRabbit.api.LicenseManager;
 import co.RabbitTale.luckyRabbit.api.LuckyRabbitAPI;
@@ -14,11 +17,18 @@ import co.RabbitTale.luckyRabbit.api.LuckyRabbitAPIProvider;
 import co.RabbitTale.luckyRabbit.commands.CommandManager;
 import co.RabbitTale.luckyRabbit.config.ConfigManager;
 import co.RabbitTale.luckyRabbit.effects.CreatorEffects;
+import co.RabbitTale.luckyRabbit.gui.animations.AnimationEngine;
+import co.RabbitTale.luckyRabbit.gui.utils.Decorations;
 import co.RabbitTale.luckyRabbit.listeners.EntityListener;
 import co.RabbitTale.luckyRabbit.listeners.ListenerManager;
 import co.RabbitTale.luckyRabbit.lootbox.LootboxManager;
+import co.RabbitTale.luckyRabbit.lootbox.entity.LootboxEntityTicker;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.OpenJournal;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.OpenLog;
+import co.RabbitTale.luckyRabbit.lootbox.stats.StatsStore;
 import co.RabbitTale.luckyRabbit.user.UserManager;
 import co.RabbitTale.luckyRabbit.utils.Logger;
+import co.RabbitTale.luckyRabbit.utils.SafeFiles;
 import lombok.Getter;
 import net.milkbowl.vault.economy.Economy;
 
@@ -60,6 +70,8 @@ public class LuckyRabbit extends JavaPlugin {
     @Getter
     private LuckyRabbitAPI api;
     @Getter
+    private AsyncLuckyRabbitAPIImpl asyncApi;
+    @Getter
     private UserManager userManager;
     @Getter
     private LicenseManager licenseManager;
@@ -67,6 +79,16 @@ public class LuckyRabbit extends JavaPlugin {
     private FeatureManager featureManager;
     @Getter
     private CreatorEffects creatorEffects;
+    @Getter
+    private AnimationEngine animationEngine;
+    @Getter
+    private LootboxEntityTicker entityTicker;
+    @Getter
+    private OpenLog openLog;
+    @Getter
+    private OpenJournal openJournal;
+    @Getter
+    private StatsStore statsStore;
 
     @Getter
     private Economy economy = null;
@@ -101,8 +123,15 @@ public class LuckyRabbit extends JavaPlugin {
         this.listenerManager = new ListenerManager(this);
         this.api = new LuckyRabbitAPIImpl(this);
         LuckyRabbitAPIProvider.setAPI(this.api);
+        this.asyncApi = new AsyncLuckyRabbitAPIImpl(this, this.api);
+        LuckyRabbitAPIProvider.setAsyncAPI(this.asyncApi);
         this.userManager = new UserManager(this);
         this.creatorEffects = new CreatorEffects(this);
+        this.animationEngine = new AnimationEngine(this);
+        this.entityTicker = new LootboxEntityTicker(this);
+        this.openLog = new OpenLog(this);
+        this.openJournal = new OpenJournal(this);
+        this.statsStore = new StatsStore(this);
 
         // Load configurations
         configManager.loadConfigs();
@@ -114,6 +143,16 @@ public class LuckyRabbit extends JavaPlugin {
         // Initialize API
         LuckyRabbitAPIProvider.setAPI(this.api);
 
+        // Start the shared animation and lootbox entity tickers
+        animationEngine.start();
+        entityTicker.start();
+
+        // Save changed lootboxes and statistics in the background
+        lootboxManager.startAutoSave();
+        statsStore.start();
+        openJournal.start();
+        openLog.start();
+
         // Register entity listener
         getServer().getPluginManager().registerEvents(new EntityListener(this), this);
 
@@ -161,6 +200,9 @@ public class LuckyRabbit extends JavaPlugin {
             // Respawn entities
             lootboxManager.respawnEntities();
 
+            // Refund or replay openings interrupted by the last shutdown
+            openJournal.recover();
+
         }, 100L);
     }
 
@@ -170,20 +212,62 @@ public class LuckyRabbit extends JavaPlugin {
      */
     @Override
     public void onDisable() {
+        // Let queued API calls finish
+        if (asyncApi != null) {
+            asyncApi.shutdown();
+        }
+
+        // Stop running animations
+        if (animationEngine != null) {
+            animationEngine.shutdown();
+        }
+        if (entityTicker != null) {
+            entityTicker.shutdown();
+        }
+
         // Save all data and cleanup entities
         if (lootboxManager != null) {
-            lootboxManager.saveAll();
+            lootboxManager.shutdownSaving();
             lootboxManager.cleanup();
         }
 
+        // Keep unfinished openings for the next start, while the key storage is still open
+        if (openJournal != null) {
+            openJournal.close();
+        }
+
         // Save all user data
         if (userManager != null) {
             userManager.saveAllUsers();
+            userManager.close();
+        }
+
+        // Persist the open counter
+        if (openLog != null) {
+            openLog.close();
+        }
+
+        // Write the remaining statistics
+        if (statsStore != null) {
+            statsStore.close();
         }
 
         Logger.info("Plugin disabled successfully!");
     }
 
+    /**
+     * Saves config.yml, replacing the file atomically so a crash
+     * can't leave it half written.
+     */
+    @Override
+    public void saveConfig() {
+        try {
+            SafeFiles.write(new File(getDataFolder(), "config.yml"), getConfig().saveToString(), true);
+        } catch (IOException e) {
+            Logger.error("Failed to save config.yml", e);
+        }
+    }
+
     /**
      * Reloads the plugin configuration and verifies license.
      * This includes:
@@ -199,6 +283,9 @@ public class LuckyRabbit extends JavaPlugin {
         // First reload configs
         configManager.loadConfigs();
 
+        // Decoration stacks were built from the old config
+        Decorations.clear();
+
         // Sprawdź licencję tylko jeśli nie jest aktualnie weryfikowana
         if (!LicenseManager.isVerifying()) {
             if (!licenseKey.isEmpty()) {
@@ -215,6 +302,15 @@ public class LuckyRabbit extends JavaPlugin {
             }
         }
 
+        // Write pending saves before the files are read again
+        lootboxManager.flush();
+        lootboxManager.startAutoSave();
+        statsStore.start();
+
+        // Pick up changed entity animation settings
+        entityTicker.shutdown();
+        entityTicker.start();
+
         // Cleanup existing entities
         lootboxManager.cleanup();
 
@@ -0,0 +1,51 @@
+package co.RabbitTale.luckyRabbit.api;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API for LuckyRabbit plugin.
+ * Safe to call from any thread, futures complete once the change is applied.
+ * Key operations run on the plugin's API executor, lootbox and world
+ * operations on the main thread.
+ */
+public interface AsyncLuckyRabbitAPI {
+
+    CompletableFuture<Void> deleteLootbox(String id);
+
+    CompletableFuture<Void> addItem(String id, ItemStack item, double chance, String rarity);
+
+    CompletableFuture<Void> placeLootbox(String id, Location location);
+
+    CompletableFuture<Integer> getKeyCount(UUID playerId, String lootboxId);
+
+    CompletableFuture<Void> giveKeys(UUID playerId, String lootboxId, int amount);
+
+    /**
+     * Gives keys to many players in one batch.
+     * Completes with the number of players granted once everything is stored.
+     * Fails if the lootbox doesn't exist, an amount is not positive or the
+     * plugin disables before every grant was applied.
+     */
+    CompletableFuture<Integer> giveKeys(Map<UUID, Integer> grants, String lootboxId);
+
+    CompletableFuture<Void> removeKeys(UUID playerId, String lootboxId, int amount);
+
+    /**
+     * Takes keys only if the player has the whole amount.
+     * Completes with false if the player has too few keys.
+     */
+    CompletableFuture<Boolean> tryConsumeKeys(UUID playerId, String lootboxId, int amount);
+
+    CompletableFuture<Boolean> hasKey(UUID playerId, String lootboxId);
+
+    CompletableFuture<List<Location>> getLootboxLocations(String id);
+
+    CompletableFuture<Void> openPreview(Player player, String lootboxId);
+}
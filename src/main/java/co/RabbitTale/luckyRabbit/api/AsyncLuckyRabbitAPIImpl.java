@@ -0,0 +1,205 @@
+package co.RabbitTale.luckyRabbit.api;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/*
+ * AsyncLuckyRabbitAPIImpl.java
+ *
+ * Implementation of the asynchronous LuckyRabbit API.
+ * Lets other plugins use keys and lootboxes without blocking their thread.
+ *
+ * Features:
+ * - Key operations on a dedicated API executor (may load from storage)
+ * - Lootbox and world changes marshalled onto the main thread
+ * - Failures complete the future exceptionally
+ * - Executor stopped on plugin disable without blocking the main thread,
+ *   calls that did not finish complete exceptionally
+ */
+public class AsyncLuckyRabbitAPIImpl implements AsyncLuckyRabbitAPI {
+
+    private static final int THREADS = 2;
+
+    private final LuckyRabbit plugin;
+    private final LuckyRabbitAPI api;
+    private final ExecutorService executor;
+    private final Set<CompletableFuture<?>> running = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a new async API implementation.
+     *
+     * @param plugin The LuckyRabbit plugin instance
+     * @param api Synchronous API the calls are run through
+     */
+    public AsyncLuckyRabbitAPIImpl(LuckyRabbit plugin, LuckyRabbitAPI api) {
+        this.plugin = plugin;
+        this.api = api;
+        AtomicInteger threadId = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "LuckyRabbit-API-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteLootbox(String id) {
+        return onMainThread(() -> {
+            api.deleteLootbox(id);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> addItem(String id, ItemStack item, double chance, String rarity) {
+        return onMainThread(() -> {
+            api.addItem(id, item, chance, rarity);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> placeLootbox(String id, Location location) {
+        return onMainThread(() -> {
+            api.placeLootbox(id, location);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Integer> getKeyCount(UUID playerId, String lootboxId) {
+        return onExecutor(() -> api.getKeyCount(playerId, lootboxId));
+    }
+
+    @Override
+    public CompletableFuture<Void> giveKeys(UUID playerId, String lootboxId, int amount) {
+        return onExecutor(() -> {
+            api.giveKeys(playerId, lootboxId, amount);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Integer> giveKeys(Map<UUID, Integer> grants, String lootboxId) {
+        try {
+            return plugin.getUserManager().addKeys(grants, lootboxId, null);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> removeKeys(UUID playerId, String lootboxId, int amount) {
+        return onExecutor(() -> {
+            api.removeKeys(playerId, lootboxId, amount);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryConsumeKeys(UUID playerId, String lootboxId, int amount) {
+        return onExecutor(() -> plugin.getUserManager().tryConsume(playerId, lootboxId, amount));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> hasKey(UUID playerId, String lootboxId) {
+        return onExecutor(() -> api.hasKey(playerId, lootboxId));
+    }
+
+    @Override
+    public CompletableFuture<List<Location>> getLootboxLocations(String id) {
+        return onMainThread(() -> {
+            Lootbox lootbox = plugin.getLootboxManager().getLootbox(id);
+            return lootbox != null ? List.copyOf(lootbox.getLocations()) : List.of();
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> openPreview(Player player, String lootboxId) {
+        return onMainThread(() -> {
+            api.openPreview(player, lootboxId);
+            return null;
+        });
+    }
+
+    /**
+     * Stops the API executor. Called on the main thread, so it does not wait:
+     * queued calls may need the main thread themselves (key loading, world
+     * changes) and are failed instead.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        if (running.isEmpty()) {
+            return;
+        }
+
+        Logger.warning("Cancelled " + running.size() + " API call(s) still running on shutdown");
+        IllegalStateException disabled = new IllegalStateException("LuckyRabbit is disabling");
+        for (CompletableFuture<?> future : running) {
+            future.completeExceptionally(disabled);
+        }
+        running.clear();
+    }
+
+    /**
+     * Runs a call on the API executor.
+     */
+    private <T> CompletableFuture<T> onExecutor(Supplier<T> call) {
+        CompletableFuture<T> future = track(new CompletableFuture<>());
+        try {
+            executor.execute(() -> complete(future, call));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new IllegalStateException("LuckyRabbit is disabled", e));
+        }
+        return future;
+    }
+
+    /**
+     * Runs a call on the main thread, right away if already on it.
+     */
+    private <T> CompletableFuture<T> onMainThread(Supplier<T> call) {
+        CompletableFuture<T> future = track(new CompletableFuture<>());
+        if (Bukkit.isPrimaryThread()) {
+            complete(future, call);
+        } else if (!plugin.isEnabled()) {
+            future.completeExceptionally(new IllegalStateException("LuckyRabbit is disabled"));
+        } else {
+            Bukkit.getScheduler().runTask(plugin, () -> complete(future, call));
+        }
+        return future;
+    }
+
+    private <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+        running.add(future);
+        future.whenComplete((result, error) -> running.remove(future));
+        return future;
+    }
+
+    private static <T> void complete(CompletableFuture<T> future, Supplier<T> call) {
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            future.complete(call.get());
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+    }
+}
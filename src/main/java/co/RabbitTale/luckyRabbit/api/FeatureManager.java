@@ -6,6 +6,7 @@ import org.bukkit.entity.Player;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
 import co.RabbitTale.luckyRabbit.commands.LootboxCommand;
+import co.RabbitTale.luckyRabbit.lootbox.animation.AnimationType;
 import net.kyori.adventure.text.Component;
 
 /*
@@ -264,8 +265,12 @@ public class FeatureManager {
         if (LicenseManager.isPremium() || LicenseManager.isTrialActive()) {
             return false;
         }
-        // Free version only allows HORIZONTAL animation
-        return !"HORIZONTAL".equalsIgnoreCase(animationType);
+        // Free version only allows non-premium animations (HORIZONTAL)
+        try {
+            return AnimationType.valueOf(animationType).isPremium();
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
     }
 
     /**
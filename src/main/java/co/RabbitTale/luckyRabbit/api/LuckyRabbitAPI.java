@@ -5,6 +5,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -22,6 +23,16 @@ public interface LuckyRabbitAPI {
 
     void giveKeys(UUID playerId, String lootboxId, int amount);
 
+    /**
+     * Gives keys to many players in one batch, e.g. after a vote party.
+     * Returns right away, the grants are applied over the next ticks.
+     *
+     * @param grants Keys to give per player
+     * @param lootboxId Lootbox ID
+     * @throws IllegalArgumentException if the lootbox doesn't exist or an amount is not positive
+     */
+    void giveKeys(Map<UUID, Integer> grants, String lootboxId);
+
     void removeKeys(UUID playerId, String lootboxId, int amount);
 
     boolean hasKey(UUID playerId, String lootboxId);
@@ -3,12 +3,15 @@ package co.RabbitTale.luckyRabbit.api;
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
 import co.RabbitTale.luckyRabbit.gui.LootboxContentGUI;
 import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
 
 /*
  * LuckyRabbitAPIImpl.java
@@ -22,6 +25,12 @@ import java.util.UUID;
  * - Location tracking
  * - GUI access
  * - Data validation
+ *
+ * Threading:
+ * - Key methods are safe from any thread (KeyLedger)
+ * - Lootbox and world changes from other threads run on the next tick
+ * - Lootbox reads from other threads block until the main thread answers
+ * - AsyncLuckyRabbitAPI offers the same calls with futures
  */
 public class LuckyRabbitAPIImpl implements LuckyRabbitAPI {
 
@@ -43,7 +52,7 @@ public class LuckyRabbitAPIImpl implements LuckyRabbitAPI {
      */
     @Override
     public void deleteLootbox(String id) {
-        plugin.getLootboxManager().deleteLootbox(id);
+        runOnMainThread(() -> plugin.getLootboxManager().deleteLootbox(id));
     }
 
     /**
@@ -56,7 +65,7 @@ public class LuckyRabbitAPIImpl implements LuckyRabbitAPI {
      */
     @Override
     public void addItem(String id, ItemStack item, double chance, String rarity) {
-        plugin.getLootboxManager().addItem(null, id, item, rarity, chance);
+        runOnMainThread(() -> plugin.getLootboxManager().addItem(null, id, item, rarity, chance));
     }
 
     /**
@@ -67,11 +76,13 @@ public class LuckyRabbitAPIImpl implements LuckyRabbitAPI {
      */
     @Override
     public void placeLootbox(String id, Location location) {
-        Lootbox lootbox = plugin.getLootboxManager().getLootbox(id);
-        if (lootbox != null) {
-            lootbox.addLocation(location);
-            plugin.getLootboxManager().saveLootbox(lootbox);
-        }
+        runOnMainThread(() -> {
+            Lootbox lootbox = plugin.getLootboxManager().getLootbox(id);
+            if (lootbox != null) {
+                lootbox.addLocation(location);
+                plugin.getLootboxManager().saveLootbox(lootbox);
+            }
+        });
     }
 
     /**
@@ -98,6 +109,17 @@ public class LuckyRabbitAPIImpl implements LuckyRabbitAPI {
         plugin.getUserManager().addKeys(playerId, lootboxId, amount);
     }
 
+    /**
+     * Gives keys to many players in one batch.
+     *
+     * @param grants Keys to give per player
+     * @param lootboxId Lootbox ID
+     */
+    @Override
+    public void giveKeys(Map<UUID, Integer> grants, String lootboxId) {
+        plugin.getUserManager().addKeys(grants, lootboxId, null);
+    }
+
     /**
      * Removes keys from a player.
      *
@@ -130,8 +152,20 @@ public class LuckyRabbitAPIImpl implements LuckyRabbitAPI {
      */
     @Override
     public List<Location> getLootboxLocations(String id) {
+        if (!Bukkit.isPrimaryThread()) {
+            // The location lists are changed on the main thread, copy them there
+            try {
+                return Bukkit.getScheduler().callSyncMethod(plugin, () -> getLootboxLocations(id)).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while getting locations of " + id, e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to get locations of " + id, e.getCause());
+            }
+        }
+
         Lootbox lootbox = plugin.getLootboxManager().getLootbox(id);
-        return lootbox != null ? lootbox.getLocations() : List.of();
+        return lootbox != null ? List.copyOf(lootbox.getLocations()) : List.of();
     }
 
     /**
@@ -141,9 +175,25 @@ public class LuckyRabbitAPIImpl implements LuckyRabbitAPI {
      * @param lootboxId Lootbox ID
      */
     public void openPreview(Player player, String lootboxId) {
-        Lootbox lootbox = plugin.getLootboxManager().getLootbox(lootboxId);
-        if (lootbox != null) {
-            new LootboxContentGUI(player, lootbox).show();
+        runOnMainThread(() -> {
+            Lootbox lootbox = plugin.getLootboxManager().getLootbox(lootboxId);
+            if (lootbox != null) {
+                new LootboxContentGUI(player, lootbox).show();
+            }
+        });
+    }
+
+    /**
+     * Runs a change on the main thread. Calls from other threads
+     * are scheduled for the next tick instead of blocking.
+     *
+     * @param task Change to run
+     */
+    private void runOnMainThread(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(plugin, task);
         }
     }
 }
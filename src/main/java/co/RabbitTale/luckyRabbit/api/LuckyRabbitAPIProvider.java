@@ -5,6 +5,7 @@ package co.RabbitTale.luckyRabbit.api;
  */
 public class LuckyRabbitAPIProvider {
     private static LuckyRabbitAPI api;
+    private static AsyncLuckyRabbitAPI asyncApi;
 
     /**
      * Get the API instance
@@ -28,4 +29,27 @@ public class LuckyRabbitAPIProvider {
         }
         api = apiInstance;
     }
+
+    /**
+     * Get the asynchronous API instance
+     * @return AsyncLuckyRabbitAPI instance
+     * @throws IllegalStateException if API is not initialized
+     */
+    public static AsyncLuckyRabbitAPI getAsyncAPI() {
+        if (asyncApi == null) {
+            throw new IllegalStateException("LuckyRabbit API is not initialized!");
+        }
+        return asyncApi;
+    }
+
+    /**
+     * Set the asynchronous API instance (internal use only)
+     * @param apiInstance Async API implementation instance
+     */
+    public static void setAsyncAPI(AsyncLuckyRabbitAPI apiInstance) {
+        if (asyncApi != null && apiInstance != asyncApi) {
+            throw new IllegalStateException("API is already initialized!");
+        }
+        asyncApi = apiInstance;
+    }
 }
@@ -1,14 +1,23 @@
 package co.RabbitTale.luckyRabbit.commands;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
 
 import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
@@ -18,10 +27,16 @@ import co.RabbitTale.luckyRabbit.api.FeatureManager;
 import co.RabbitTale.luckyRabbit.api.LicenseManager;
 import co.RabbitTale.luckyRabbit.effects.CreatorEffects;
 import co.RabbitTale.luckyRabbit.gui.LootboxListGUI;
+import co.RabbitTale.luckyRabbit.lootbox.CompiledLootbox;
 import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
 import co.RabbitTale.luckyRabbit.lootbox.LootboxManager;
 import co.RabbitTale.luckyRabbit.lootbox.animation.AnimationType;
 import co.RabbitTale.luckyRabbit.lootbox.entity.LootboxEntity;
+import co.RabbitTale.luckyRabbit.lootbox.entity.LootboxEntityTicker;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.OpenLog;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.Reward;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.OpenJournal;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.RewardDelivery;
 import co.RabbitTale.luckyRabbit.utils.Logger;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -91,6 +106,8 @@ public class LootboxCommand implements CommandExecutor {
                 }
                 case "reload" ->
                     handleReload(sender);
+                case "replay" ->
+                    handleReplay(sender, args);
                 case "animations" ->
                     showAnimations(sender);
                 case "license" ->
@@ -225,6 +242,7 @@ public class LootboxCommand implements CommandExecutor {
         sender.sendMessage(Component.text("» /lb config license_key <key>").color(COMMAND_COLOR)
                 .append(Component.text(" - Configure plugin settings").color(DESCRIPTION_COLOR)));
         sender.sendMessage(Component.text("» /lb reload").color(COMMAND_COLOR));
+        sender.sendMessage(Component.text("» /lb replay <id> <seed> [amount] [version]").color(COMMAND_COLOR));
         sender.sendMessage(Component.text("» /lb license").color(COMMAND_COLOR));
         sender.sendMessage(Component.text("» /lb animations").color(COMMAND_COLOR));
         sender.sendMessage(Component.empty());
@@ -239,7 +257,7 @@ public class LootboxCommand implements CommandExecutor {
         }
 
         if (args.length < 5) {
-            sender.sendMessage(Component.text("Usage: /lootbox key <add/remove> <player> <id> <amount>")
+            sender.sendMessage(Component.text("Usage: /lootbox key <add/remove> <player|@selector|file:name> <id> <amount>")
                     .color(ERROR_COLOR));
             return;
         }
@@ -257,6 +275,17 @@ public class LootboxCommand implements CommandExecutor {
             return;
         }
 
+        // Selectors and list files give keys to many players in one batch
+        if (args[2].startsWith("@") || args[2].startsWith("file:")) {
+            if (!action.equals("add")) {
+                sender.sendMessage(Component.text("Selectors and list files only work with 'add'!")
+                        .color(ERROR_COLOR));
+                return;
+            }
+            handleKeyBatch(sender, args[2], id, amount);
+            return;
+        }
+
         if (target == null) {
             sender.sendMessage(Component.text("Player not found!")
                     .color(ERROR_COLOR));
@@ -312,6 +341,160 @@ public class LootboxCommand implements CommandExecutor {
         }
     }
 
+    /**
+     * Gives keys to every player matched by a selector (@a, @a[distance=..10])
+     * or listed in a file in plugins/LuckyRabbit/lists (one name or UUID per line).
+     *
+     * @param sender Command sender
+     * @param targets Selector or "file:name"
+     * @param id Lootbox ID
+     * @param amount Keys per player
+     */
+    private void handleKeyBatch(CommandSender sender, String targets, String id, int amount) {
+        Lootbox lootbox = plugin.getLootboxManager().getLootbox(id);
+        if (lootbox == null) {
+            sender.sendMessage(Component.text("Lootbox not found: " + id)
+                    .color(ERROR_COLOR));
+            return;
+        }
+        if (amount <= 0) {
+            sender.sendMessage(Component.text("Amount must be greater than 0!")
+                    .color(ERROR_COLOR));
+            return;
+        }
+
+        if (targets.startsWith("@")) {
+            Map<UUID, Integer> grants = new LinkedHashMap<>();
+            try {
+                for (Entity entity : Bukkit.selectEntities(sender, targets)) {
+                    if (entity instanceof Player player) {
+                        grants.put(player.getUniqueId(), amount);
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                sender.sendMessage(Component.text("Invalid selector: " + e.getMessage())
+                        .color(ERROR_COLOR));
+                return;
+            }
+            grantKeys(sender, lootbox, grants, 0);
+            return;
+        }
+
+        // Read the list off the main thread, grant on it
+        String fileName = targets.substring("file:".length());
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            File listFolder = new File(plugin.getDataFolder(), "lists");
+            File listFile = new File(listFolder, fileName);
+            List<String> lines;
+            Component error = null;
+            try {
+                if (!listFile.getCanonicalPath().startsWith(listFolder.getCanonicalPath() + File.separator)) {
+                    error = Component.text("List files must be in the lists folder!");
+                }
+                lines = error == null ? Files.readAllLines(listFile.toPath(), StandardCharsets.UTF_8) : List.of();
+            } catch (IOException e) {
+                error = Component.text("Could not read lists/" + fileName);
+                lines = List.of();
+            }
+
+            Component failure = error;
+            List<String> entries = lines;
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (failure != null) {
+                    sender.sendMessage(failure.color(ERROR_COLOR));
+                    return;
+                }
+
+                Map<UUID, Integer> grants = new LinkedHashMap<>();
+                int unknown = 0;
+                for (String line : entries) {
+                    String entry = line.trim();
+                    if (entry.isEmpty() || entry.startsWith("#")) {
+                        continue;
+                    }
+                    UUID uuid = parsePlayer(entry);
+                    if (uuid != null) {
+                        grants.merge(uuid, amount, Integer::sum);
+                    } else {
+                        unknown++;
+                    }
+                }
+                grantKeys(sender, lootbox, grants, unknown);
+            });
+        });
+    }
+
+    /**
+     * Resolves a list entry without web lookups.
+     *
+     * @return Player UUID, or null if the player never joined
+     */
+    private UUID parsePlayer(String entry) {
+        try {
+            return UUID.fromString(entry);
+        } catch (IllegalArgumentException e) {
+            OfflinePlayer player = Bukkit.getOfflinePlayerIfCached(entry);
+            return player != null ? player.getUniqueId() : null;
+        }
+    }
+
+    /**
+     * Grants keys in batches and reports back on the main thread.
+     *
+     * @param grants Keys per player, duplicates already merged
+     * @param unknown Number of list entries that matched no player
+     */
+    private void grantKeys(CommandSender sender, Lootbox lootbox, Map<UUID, Integer> grants, int unknown) {
+        Component lootboxName = MiniMessage.miniMessage().deserialize(lootbox.getDisplayName());
+        if (grants.isEmpty()) {
+            sender.sendMessage(Component.text("No players matched!")
+                    .color(ERROR_COLOR));
+            return;
+        }
+        if (unknown > 0) {
+            sender.sendMessage(Component.text("Skipping " + unknown + " unknown player(s)")
+                    .color(ERROR_COLOR));
+        }
+
+        sender.sendMessage(Component.text("Giving keys to " + grants.size() + " players...")
+                .color(INFO_COLOR));
+        plugin.getUserManager().addKeys(grants, lootbox.getId(), (done, total) ->
+                sender.sendMessage(Component.text("» ", SEPARATOR_COLOR)
+                        .append(Component.text(done + "/" + total, ITEM_COLOR))
+                        .append(Component.text(" players done", DESCRIPTION_COLOR))))
+                .whenComplete((count, error) -> {
+                    if (error != null) {
+                        // Only fails when the plugin disables mid-batch, already on the main thread
+                        sender.sendMessage(Component.text("Key grant interrupted: " + error.getMessage())
+                                .color(ERROR_COLOR));
+                        return;
+                    }
+                    Bukkit.getScheduler().runTask(plugin, () -> reportGrant(sender, lootboxName, grants, count));
+                });
+    }
+
+    private void reportGrant(CommandSender sender, Component lootboxName, Map<UUID, Integer> grants, int count) {
+        int total = grants.values().stream().mapToInt(Integer::intValue).sum();
+        sender.sendMessage(Component.text("You gave ")
+                .color(SUCCESS_COLOR)
+                .append(Component.text(total + "x ", ITEM_COLOR))
+                .append(Component.text("key(s) for ", SUCCESS_COLOR))
+                .append(lootboxName)
+                .append(Component.text(" to ", SUCCESS_COLOR))
+                .append(Component.text(count + " players", TARGET_COLOR)));
+
+        for (Map.Entry<UUID, Integer> grant : grants.entrySet()) {
+            Player player = Bukkit.getPlayer(grant.getKey());
+            if (player != null) {
+                player.sendMessage(Component.text("You received ")
+                        .color(DESCRIPTION_COLOR)
+                        .append(Component.text(grant.getValue() + "x ", ITEM_COLOR))
+                        .append(Component.text("key(s) for ", DESCRIPTION_COLOR))
+                        .append(lootboxName));
+            }
+        }
+    }
+
     private void handleReload(CommandSender sender) {
         if (!sender.hasPermission("luckyrabbit.admin.reload")) {
             sender.sendMessage(Component.text("You don't have permission to reload the plugin!")
@@ -322,7 +505,7 @@ public class LootboxCommand implements CommandExecutor {
         try {
             // Save current data
             plugin.getUserManager().saveAllUsers();
-            plugin.getLootboxManager().saveAll();
+            plugin.getLootboxManager().saveDirty();
 
             // Reload the plugin
             plugin.reload();
@@ -345,6 +528,14 @@ public class LootboxCommand implements CommandExecutor {
                     .append(Component.text(maxLootboxes == -1 ? "Unlimited" : String.valueOf(maxLootboxes),
                             maxLootboxes == -1 ? SUCCESS_COLOR : INFO_COLOR))
                     .build());
+            LootboxManager.RespawnProgress progress = plugin.getLootboxManager().getRespawnProgress();
+            if (progress.running()) {
+                sender.sendMessage(Component.text()
+                        .append(Component.text("Setting up placed lootboxes in ", DESCRIPTION_COLOR))
+                        .append(Component.text(progress.total(), INFO_COLOR))
+                        .append(Component.text(" chunks in the background", DESCRIPTION_COLOR))
+                        .build());
+            }
             sender.sendMessage(Component.empty());
         } catch (Exception e) {
             sender.sendMessage(Component.text("An error occurred while reloading: " + e.getMessage())
@@ -353,27 +544,135 @@ public class LootboxCommand implements CommandExecutor {
         }
     }
 
+    private void handleReplay(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("luckyrabbit.admin.replay")) {
+            sender.sendMessage(Component.text("You don't have permission to replay openings!")
+                    .color(ERROR_COLOR));
+            return;
+        }
+
+        if (args.length < 3) {
+            sender.sendMessage(Component.text("Usage: /lb replay <id> <seed> [amount] [version]")
+                    .color(ERROR_COLOR));
+            return;
+        }
+
+        Lootbox lootbox = plugin.getLootboxManager().getLootbox(args[1]);
+        if (lootbox == null) {
+            sender.sendMessage(Component.text("Lootbox not found: " + args[1])
+                    .color(ERROR_COLOR));
+            return;
+        }
+        if (lootbox.getItems().isEmpty()) {
+            sender.sendMessage(Component.text("This lootbox is empty!")
+                    .color(ERROR_COLOR));
+            return;
+        }
+
+        long seed;
+        int amount = 1;
+        try {
+            seed = OpenLog.parseSeed(args[2]);
+            if (args.length > 3) {
+                amount = Integer.parseInt(args[3]);
+            }
+        } catch (NumberFormatException e) {
+            sender.sendMessage(Component.text("Invalid seed or amount! Copy both from opens/opens.log.")
+                    .color(ERROR_COLOR));
+            return;
+        }
+        if (amount < 1) {
+            sender.sendMessage(Component.text("Amount must be at least 1!")
+                    .color(ERROR_COLOR));
+            return;
+        }
+
+        CompiledLootbox compiled = lootbox.getCompiled();
+        SplittableRandom random = new SplittableRandom(seed);
+
+        sender.sendMessage(Component.empty());
+        sender.sendMessage(Component.text("Replay of " + lootbox.getId() + " with seed " + args[2]
+                + " (" + amount + " opening(s)):", INFO_COLOR));
+        sender.sendMessage(Component.text("Lootbox version: ", DESCRIPTION_COLOR)
+                .append(Component.text(compiled.getVersion(), TARGET_COLOR)));
+        if (args.length > 4 && !args[4].equalsIgnoreCase(compiled.getVersion())) {
+            sender.sendMessage(Component.text("Recorded version " + args[4]
+                    + " differs, the contents changed since this opening!", ERROR_COLOR));
+        }
+
+        // Same draw order as RewardDelivery: single openings roll index then amount
+        if (amount == 1) {
+            int index = compiled.rollIndex(random);
+            sendReplayLine(sender, compiled, index, compiled.rollAmount(index, random));
+        } else {
+            CompiledLootbox.BulkRoll roll = compiled.rollBulk(amount, random);
+            for (int index = 0; index < roll.wins().length; index++) {
+                if (roll.wins()[index] > 0) {
+                    sendReplayLine(sender, compiled, index, roll.amounts()[index]);
+                }
+            }
+        }
+        sender.sendMessage(Component.empty());
+    }
+
+    private void sendReplayLine(CommandSender sender, CompiledLootbox compiled, int index, int amount) {
+        Reward reward = compiled.getReward(index);
+        sender.sendMessage(Component.text("» ", SEPARATOR_COLOR)
+                .append(Component.text(amount + "x ", ITEM_COLOR))
+                .append(Component.text(reward.item().getId(), ITEM_COLOR))
+                .append(Component.text(" (", DESCRIPTION_COLOR))
+                .append(Component.text(reward.rarity().toString(), reward.rarity().getColor()))
+                .append(Component.text(")", DESCRIPTION_COLOR)));
+    }
+
     private void showAnimations(CommandSender sender) {
         sender.sendMessage(Component.empty());
         sender.sendMessage(Component.text("Available Animations:")
                 .color(INFO_COLOR));
 
+        for (AnimationType type : AnimationType.values()) {
+            if (type.getDefinition() == null) {
+                continue;
+            }
+            sender.sendMessage(Component.text()
+                    .append(Component.text("» ", SEPARATOR_COLOR))
+                    .append(Component.text(type.name(), ACTION_COLOR))
+                    .append(Component.text(" - ", SEPARATOR_COLOR))
+                    .append(Component.text(type.getDescription() != null ? type.getDescription() : "Custom animation",
+                            DESCRIPTION_COLOR))
+                    .build());
+        }
+
+        sender.sendMessage(Component.text("Add your own in the animations folder!", INFO_COLOR));
+        sender.sendMessage(Component.empty());
+    }
+
+    private void showEntityStats(CommandSender sender) {
+        LootboxEntityTicker.Report report = plugin.getEntityTicker().getReport();
+
+        sender.sendMessage(Component.empty());
+        sender.sendMessage(Component.text("Lootbox Entity Ticker:")
+                .color(INFO_COLOR));
         sender.sendMessage(Component.text()
                 .append(Component.text("» ", SEPARATOR_COLOR))
-                .append(Component.text("HORIZONTAL", ACTION_COLOR))
-                .append(Component.text(" - ", SEPARATOR_COLOR))
-                .append(Component.text("Classic horizontal spin animation", DESCRIPTION_COLOR))
+                .append(Component.text("Animated: ", DESCRIPTION_COLOR))
+                .append(Component.text(report.active(), TARGET_COLOR))
+                .append(Component.text(", culled: ", DESCRIPTION_COLOR))
+                .append(Component.text(report.culled(), TARGET_COLOR))
                 .build());
-
         sender.sendMessage(Component.text()
                 .append(Component.text("» ", SEPARATOR_COLOR))
-                .append(Component.text("CIRCLE", ACTION_COLOR))
-                .append(Component.text(" - ", SEPARATOR_COLOR))
-                .append(Component.text("Items spin in a circle pattern", DESCRIPTION_COLOR))
+                .append(Component.text("Last tick: ", DESCRIPTION_COLOR))
+                .append(Component.text(String.format("%.3fms", report.lastMillis()), TARGET_COLOR))
+                .build());
+        sender.sendMessage(Component.text()
+                .append(Component.text("» ", SEPARATOR_COLOR))
+                .append(Component.text("Average: ", DESCRIPTION_COLOR))
+                .append(Component.text(String.format("%.3fms", report.averageMillis()), TARGET_COLOR))
+                .append(Component.text(", max: ", DESCRIPTION_COLOR))
+                .append(Component.text(String.format("%.3fms", report.maxMillis()), TARGET_COLOR))
+                .append(Component.text(" (last minute)", DESCRIPTION_COLOR))
                 .build());
-
-        sender.sendMessage(Component.empty());
-        sender.sendMessage(Component.text("More animations coming soon!", INFO_COLOR));
         sender.sendMessage(Component.empty());
     }
 
@@ -464,6 +763,10 @@ public class LootboxCommand implements CommandExecutor {
                     LootboxListGUI.openGUI(player, 1);
                 }
             }
+            case "instantopen" ->
+                handleInstantOpen(player);
+            case "open" ->
+                handleOpen(player, args);
             case "create" ->
                 handleCreate(player, args);
             case "delete" ->
@@ -567,6 +870,8 @@ public class LootboxCommand implements CommandExecutor {
                                     .color(ERROR_COLOR));
                         }
                     }
+                    case "stats" ->
+                        showEntityStats(player);
                     default -> {
                         List<Component> usage = LootboxTabCompleter.getCommandUsage("entity");
                         player.sendMessage(Component.empty());
@@ -582,6 +887,91 @@ public class LootboxCommand implements CommandExecutor {
         }
     }
 
+    private void handleInstantOpen(Player player) {
+        if (!player.hasPermission("luckyrabbit.instantopen")) {
+            player.sendMessage(Component.text("You don't have permission to open lootboxes instantly!")
+                    .color(ERROR_COLOR));
+            return;
+        }
+
+        boolean newState = !plugin.getUserManager().isInstantOpen(player.getUniqueId());
+        plugin.getUserManager().setInstantOpen(player.getUniqueId(), newState);
+        player.sendMessage(Component.text("Instant opening is now ")
+                .color(DESCRIPTION_COLOR)
+                .append(Component.text(newState ? "enabled" : "disabled")
+                        .color(newState ? SUCCESS_COLOR : ERROR_COLOR))
+                .append(Component.text(" for you", DESCRIPTION_COLOR)));
+    }
+
+    private void handleOpen(Player player, String[] args) {
+        if (!player.hasPermission("luckyrabbit.bulkopen")) {
+            player.sendMessage(Component.text("You don't have permission to open lootboxes from commands!")
+                    .color(ERROR_COLOR));
+            return;
+        }
+
+        if (args.length < 2) {
+            player.sendMessage(Component.text("Usage: ", DESCRIPTION_COLOR)
+                    .append(Component.text("/lb ", SEPARATOR_COLOR))
+                    .append(Component.text("open ", ACTION_COLOR))
+                    .append(Component.text("<id> ", ITEM_COLOR))
+                    .append(Component.text("[amount]", NAME_COLOR)));
+            return;
+        }
+
+        Lootbox lootbox = plugin.getLootboxManager().getLootbox(args[1]);
+        if (lootbox == null) {
+            player.sendMessage(Component.text("Lootbox not found: " + args[1])
+                    .color(ERROR_COLOR));
+            return;
+        }
+        if (lootbox.getItems().isEmpty()) {
+            player.sendMessage(Component.text("This lootbox is empty!")
+                    .color(ERROR_COLOR));
+            return;
+        }
+
+        int amount = 1;
+        if (args.length > 2) {
+            try {
+                amount = Integer.parseInt(args[2]);
+            } catch (NumberFormatException e) {
+                player.sendMessage(Component.text("Invalid amount! Please enter a number.")
+                        .color(ERROR_COLOR));
+                return;
+            }
+        }
+
+        int limit = RewardDelivery.getBulkLimit(plugin);
+        if (amount < 1 || amount > limit) {
+            player.sendMessage(Component.text("Amount must be between 1 and " + limit + "!")
+                    .color(ERROR_COLOR));
+            return;
+        }
+
+        if (!plugin.getUserManager().tryConsume(player.getUniqueId(), lootbox.getId(), amount)) {
+            int keys = plugin.getUserManager().getKeyCount(player.getUniqueId(), lootbox.getId());
+            player.sendMessage(Component.text("You only have " + keys + " key(s) for this lootbox!")
+                    .color(ERROR_COLOR));
+            return;
+        }
+        OpenJournal.Session session = plugin.getOpenJournal().begin(player, lootbox, amount);
+
+        try {
+            if (amount == 1) {
+                RewardDelivery.openInstantly(plugin, player, lootbox, session);
+            } else {
+                RewardDelivery.openBulk(plugin, player, lootbox, session);
+            }
+        } catch (Exception e) {
+            Logger.error("Error bulk opening lootbox " + lootbox.getId(), e);
+            // Does nothing if a reward was already given, the session is finished then
+            plugin.getOpenJournal().refund(session);
+            player.sendMessage(Component.text("Error opening lootbox: " + e.getMessage())
+                    .color(ERROR_COLOR));
+        }
+    }
+
     private void handleCreate(Player player, String[] args) {
         if (!player.hasPermission("luckyrabbit.admin.create")) {
             player.sendMessage(Component.text("You don't have permission to create lootboxes!")
@@ -728,6 +1118,13 @@ public class LootboxCommand implements CommandExecutor {
         // Basic commands - only show list and help for regular players
         commands.add(createCommandComponent("/lb list", "View list of lootboxes", null));
         commands.add(createCommandComponent("/lb help [page]", "Show this help menu", null));
+        if (player.hasPermission("luckyrabbit.instantopen")) {
+            commands.add(createCommandComponent("/lb instantopen", "Toggle opening without animation", null));
+        }
+        if (player.hasPermission("luckyrabbit.bulkopen")) {
+            commands.add(createCommandComponent("/lb open", "Open several keys at once",
+                    Map.of("<id>", ITEM_COLOR, "[amount]", NAME_COLOR)));
+        }
 
         // Only show animations and license commands for admins
         if (player.hasPermission("luckyrabbit.admin")) {
@@ -743,11 +1140,13 @@ public class LootboxCommand implements CommandExecutor {
                     Map.of("<id>", ITEM_COLOR)));
             commands.add(createCommandComponent("/lb item add/remove", "Manage lootbox items",
                     Map.of("<id>", ITEM_COLOR)));
-            commands.add(createCommandComponent("/lb entity spawn/despawn", "Manage lootbox entities",
+            commands.add(createCommandComponent("/lb entity spawn/despawn/stats", "Manage lootbox entities",
                     Map.of("<id>", ITEM_COLOR)));
             commands.add(createCommandComponent("/lb key add/remove", "Manage lootbox keys",
                     Map.of("<player>", TARGET_COLOR, "<id>", ITEM_COLOR, "<amount>", NAME_COLOR)));
             commands.add(createCommandComponent("/lb reload", "Reload all configurations", null));
+            commands.add(createCommandComponent("/lb replay", "Re-run a recorded opening",
+                    Map.of("<id>", ITEM_COLOR, "<seed>", TARGET_COLOR, "[amount]", NAME_COLOR)));
             commands.add(createCommandComponent("/lb config", "Configure plugin settings",
                     Map.of("license_key", ITEM_COLOR, "<key>", TARGET_COLOR)));
         }
@@ -839,7 +1238,8 @@ public class LootboxCommand implements CommandExecutor {
                         || part.equals("create") || part.equals("delete")
                         || part.equals("place") || part.equals("reload")
                         || part.equals("list") || part.equals("help")
-                        || part.equals("animations") || part.equals("license")) {
+                        || part.equals("animations") || part.equals("license")
+                        || part.equals("open")) {
                     // Color action words
                     color = ACTION_COLOR;
                 } else {
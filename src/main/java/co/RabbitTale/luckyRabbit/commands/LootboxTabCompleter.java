@@ -14,13 +14,13 @@ import org.jetbrains.annotations.NotNull;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
 import co.RabbitTale.luckyRabbit.effects.CreatorEffects;
+import co.RabbitTale.luckyRabbit.lootbox.animation.AnimationType;
 import net.kyori.adventure.text.Component;
 
 public class LootboxTabCompleter implements TabCompleter {
     private final LuckyRabbit plugin;
     private static final List<String> RARITIES = Arrays.asList("COMMON", "UNCOMMON", "RARE", "EPIC", "LEGENDARY");
     private static final List<String> CHANCES = Arrays.asList("5", "10", "15", "20", "25", "30", "35", "40", "45", "50");
-    private static final List<String> SUPPORTED_ANIMATIONS = Arrays.asList("HORIZONTAL", "CIRCLE");
     private static final List<String> KEY_ACTIONS = Arrays.asList("add", "remove");
     private static final List<String> ITEM_ACTIONS = Arrays.asList("add", "remove");
 
@@ -38,15 +38,21 @@ public class LootboxTabCompleter implements TabCompleter {
             if (sender instanceof Player && CreatorEffects.isCreator(((Player) sender).getUniqueId())) {
                 commands.add("creator");
             }
+            if (sender.hasPermission("luckyrabbit.instantopen")) {
+                commands.add("instantopen");
+            }
+            if (sender.hasPermission("luckyrabbit.bulkopen")) {
+                commands.add("open");
+            }
             if (sender.hasPermission("luckyrabbit.admin")) {
-                commands.addAll(Arrays.asList("create", "delete", "item", "entity", "key", "reload", "animations", "license", "config"));
+                commands.addAll(Arrays.asList("create", "delete", "item", "entity", "key", "reload", "replay", "animations", "license", "config"));
             }
             return filterCompletions(commands, args[0]);
         }
 
         if (args[0].equalsIgnoreCase("entity")) {
             if (args.length == 2) {
-                return filterCompletions(Arrays.asList("spawn", "despawn"), args[1]);
+                return filterCompletions(Arrays.asList("spawn", "despawn", "stats"), args[1]);
             }
             if (args.length == 3 && args[1].equalsIgnoreCase("spawn")) {
                 if (sender.hasPermission("luckyrabbit.admin")) {
@@ -69,6 +75,16 @@ public class LootboxTabCompleter implements TabCompleter {
             return completions;
         }
 
+        if (args[0].equalsIgnoreCase("open") && sender.hasPermission("luckyrabbit.bulkopen")) {
+            if (args.length == 2) {
+                return filterCompletions(plugin.getLootboxManager().getLootboxNames(), args[1]);
+            }
+            if (args.length == 3) {
+                return filterCompletions(Arrays.asList("1", "5", "10", "25", "50"), args[2]);
+            }
+            return completions;
+        }
+
         if (!sender.hasPermission("luckyrabbit.admin")) {
             return completions;
         }
@@ -80,7 +96,9 @@ public class LootboxTabCompleter implements TabCompleter {
                     return filterCompletions(completions, args[1]);
                 }
                 if (args.length == 3) {
-                    return filterCompletions(SUPPORTED_ANIMATIONS, args[2]);
+                    return filterCompletions(AnimationType.values().stream()
+                            .map(AnimationType::name)
+                            .collect(Collectors.toList()), args[2]);
                 }
             }
             case "key" -> {
@@ -88,9 +106,13 @@ public class LootboxTabCompleter implements TabCompleter {
                     return filterCompletions(KEY_ACTIONS, args[1]);
                 }
                 if (args.length == 3) {
-                    return filterCompletions(Bukkit.getOnlinePlayers().stream()
+                    List<String> targets = Bukkit.getOnlinePlayers().stream()
                             .map(Player::getName)
-                            .collect(Collectors.toList()), args[2]);
+                            .collect(Collectors.toList());
+                    if (args[1].equalsIgnoreCase("add")) {
+                        targets.addAll(Arrays.asList("@a", "file:"));
+                    }
+                    return filterCompletions(targets, args[2]);
                 }
                 if (args.length == 4) {
                     if (sender.hasPermission("luckyrabbit.admin")) {
@@ -117,6 +139,15 @@ public class LootboxTabCompleter implements TabCompleter {
                     return filterCompletions(CHANCES, args[4]);
                 }
             }
+            case "replay" -> {
+                if (args.length == 2) {
+                    return filterCompletions(plugin.getLootboxManager().getLootboxNamesAdmin(), args[1]);
+                }
+                if (args.length == 3) {
+                    completions.add("<seed>");
+                    return filterCompletions(completions, args[2]);
+                }
+            }
             case "delete", "place" -> {
                 if (args.length == 2) {
                     if (sender.hasPermission("luckyrabbit.admin")) {
@@ -194,6 +225,13 @@ public class LootboxTabCompleter implements TabCompleter {
                     .append(Component.text("lootbox_id ", LootboxCommand.ITEM_COLOR))
                     .append(Component.text("amount", LootboxCommand.NAME_COLOR))
                     .append(Component.text(" - Give keys to a player", LootboxCommand.DESCRIPTION_COLOR)),
+                Component.text("» ", LootboxCommand.SEPARATOR_COLOR)
+                    .append(Component.text("/lb ", LootboxCommand.SEPARATOR_COLOR))
+                    .append(Component.text("key add ", LootboxCommand.ACTION_COLOR))
+                    .append(Component.text("@a|file:name ", LootboxCommand.TARGET_COLOR))
+                    .append(Component.text("lootbox_id ", LootboxCommand.ITEM_COLOR))
+                    .append(Component.text("amount", LootboxCommand.NAME_COLOR))
+                    .append(Component.text(" - Give keys to many players (selector or lists/name file)", LootboxCommand.DESCRIPTION_COLOR)),
                 Component.text("» ", LootboxCommand.SEPARATOR_COLOR)
                     .append(Component.text("/lb ", LootboxCommand.SEPARATOR_COLOR))
                     .append(Component.text("key remove ", LootboxCommand.ACTION_COLOR))
@@ -278,6 +316,10 @@ public class LootboxTabCompleter implements TabCompleter {
                     .append(Component.text("/lb ", LootboxCommand.SEPARATOR_COLOR))
                     .append(Component.text("entity despawn", LootboxCommand.ACTION_COLOR))
                     .append(Component.text(" - Remove the lootbox entity you're looking at", LootboxCommand.DESCRIPTION_COLOR)),
+                Component.text("» ", LootboxCommand.SEPARATOR_COLOR)
+                    .append(Component.text("/lb ", LootboxCommand.SEPARATOR_COLOR))
+                    .append(Component.text("entity stats", LootboxCommand.ACTION_COLOR))
+                    .append(Component.text(" - Show the entity ticker timing", LootboxCommand.DESCRIPTION_COLOR)),
                 Component.text("\nType the command for more information", LootboxCommand.DESCRIPTION_COLOR)
             );
             case "entity spawn" -> Arrays.asList(
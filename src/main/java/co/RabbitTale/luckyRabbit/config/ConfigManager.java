@@ -1,6 +1,7 @@
 package co.RabbitTale.luckyRabbit.config;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.lootbox.animation.AnimationLoader;
 import co.RabbitTale.luckyRabbit.utils.Logger;
 
 public class ConfigManager {
@@ -26,6 +27,9 @@ public class ConfigManager {
         // Load lootbox config
         new LootboxConfig(plugin);
 
+        // Load animation definitions (before lootboxes reference them)
+        new AnimationLoader(plugin).loadAnimations();
+
         Logger.debug("All configurations loaded successfully");
     }
 }
@@ -2,6 +2,7 @@ package co.RabbitTale.luckyRabbit.config;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
 import co.RabbitTale.luckyRabbit.utils.Logger;
+import co.RabbitTale.luckyRabbit.utils.SafeFiles;
 
 import java.io.File;
 import java.io.IOException;
@@ -9,7 +10,6 @@ import java.util.Arrays;
 
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
 
 public class LootboxConfig {
 
@@ -35,7 +35,7 @@ public class LootboxConfig {
         if (!configFile.exists()) {
             plugin.saveDefaultConfig();
         }
-        config = YamlConfiguration.loadConfiguration(configFile);
+        config = SafeFiles.loadYaml(configFile);
         validateConfig();
     }
 
@@ -77,11 +77,11 @@ public class LootboxConfig {
     }
 
     /**
-     * Saves the configuration to disk.
+     * Saves the configuration to disk, replacing the file atomically.
      */
     public void saveConfig() {
         try {
-            config.save(new File(plugin.getDataFolder(), "config.yml"));
+            SafeFiles.write(new File(plugin.getDataFolder(), "config.yml"), config.saveToString(), true);
         } catch (IOException e) {
             Logger.error("Failed to save config.yml", e);
         }
@@ -16,6 +16,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.gui.utils.Decorations;
 import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.INFO_COLOR;
 import net.kyori.adventure.text.Component;
 
@@ -73,12 +74,16 @@ public class CreatorEffects implements Listener {
     }
 
     private void updateHatColor(Player player) {
-        ItemStack helmet = new ItemStack(GLASS_COLORS[colorIndex]);
-        ItemMeta meta = helmet.getItemMeta();
-        meta.displayName(Component.text("✦ Lucky Rabbit Creator ✦")
-                .color(INFO_COLOR));
-        meta.setUnbreakable(true);
-        helmet.setItemMeta(meta);
+        Material color = GLASS_COLORS[colorIndex];
+        ItemStack helmet = Decorations.icon("creator-hat:" + color.name(), () -> {
+            ItemStack item = new ItemStack(color);
+            ItemMeta meta = item.getItemMeta();
+            meta.displayName(Component.text("✦ Lucky Rabbit Creator ✦")
+                    .color(INFO_COLOR));
+            meta.setUnbreakable(true);
+            item.setItemMeta(meta);
+            return item;
+        });
 
         ItemStack previousHelmet = player.getInventory().getHelmet();
         if (previousHelmet != null && !isStainedGlass(previousHelmet.getType())) {
@@ -6,12 +6,12 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
 import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
 import co.RabbitTale.luckyRabbit.lootbox.items.LootboxItem;
+import co.RabbitTale.luckyRabbit.gui.utils.Decorations;
 import co.RabbitTale.luckyRabbit.gui.utils.GUIUtils;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -38,7 +38,7 @@ public class ItemDeleteConfirmationGUI implements GUI {
     private void setupInventory() {
         // Fill with black glass
         for (int i = 0; i < inventory.getSize(); i++) {
-            inventory.setItem(i, new ItemStack(Material.BLACK_STAINED_GLASS_PANE));
+            inventory.setItem(i, Decorations.plain(Material.BLACK_STAINED_GLASS_PANE));
         }
 
         // Add item to delete in the middle
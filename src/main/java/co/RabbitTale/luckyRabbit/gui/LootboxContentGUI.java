@@ -3,7 +3,6 @@ package co.RabbitTale.luckyRabbit.gui;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.logging.Level;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
@@ -18,14 +17,13 @@ import org.jetbrains.annotations.NotNull;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
 import co.RabbitTale.luckyRabbit.gui.animations.BaseAnimationGUI;
-import co.RabbitTale.luckyRabbit.gui.animations.CascadeSpinGUI;
-import co.RabbitTale.luckyRabbit.gui.animations.CircleSpinGUI;
-import co.RabbitTale.luckyRabbit.gui.animations.HorizontalSpinGUI;
-import co.RabbitTale.luckyRabbit.gui.animations.PinPointSpinGUI;
-import co.RabbitTale.luckyRabbit.gui.animations.ThreeInRowSpinGUI;
+import co.RabbitTale.luckyRabbit.gui.animations.FrameTableGUI;
 import co.RabbitTale.luckyRabbit.gui.utils.GUIUtils;
 import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
 import co.RabbitTale.luckyRabbit.lootbox.items.LootboxItem;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.OpenJournal;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.RewardDelivery;
+import co.RabbitTale.luckyRabbit.utils.Logger;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
@@ -45,12 +43,15 @@ import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.*;
  * - Item statistics (chance, rarity)
  * - Opening animation selection
  * - Key management
+ * - Instant opening (shift-click or player preference)
+ * - Bulk opening of all keys (up to settings.bulk-open-max)
  * - Admin item removal
  *
  * Layout:
  * - 7x3 grid for items (21 per page)
  * - Navigation buttons (prev/next)
  * - Open button (if player has keys)
+ * - Bulk open button (if player has more than one key)
  * - Back button (optional)
  *
  * Permissions:
@@ -64,6 +65,7 @@ public class LootboxContentGUI implements GUI {
     private static final int PREV_PAGE_SLOT = 39; // Bottom left (adjusted for 5 rows)
     private static final int NEXT_PAGE_SLOT = 41; // Bottom right (adjusted for 5 rows)
     private static final int OPEN_BUTTON_SLOT = 40; // Bottom middle (adjusted for 5 rows)
+    private static final int BULK_OPEN_BUTTON_SLOT = 42; // Right of next page
     private static final int EXIT_BUTTON_SLOT = 44; // Bottom right corner (adjusted for 5 rows)
 
     private final LuckyRabbit plugin;
@@ -175,6 +177,10 @@ public class LootboxContentGUI implements GUI {
             openLore.add(Component.empty());
             openLore.add(Component.text("Click to open!")
                     .color(INFO_COLOR));
+            if (player.hasPermission("luckyrabbit.instantopen")) {
+                openLore.add(Component.text("Shift + Click to open instantly")
+                        .color(DESCRIPTION_COLOR));
+            }
         } else {
             openLore.add(Component.text("You need a key to open this lootbox!")
                     .color(ERROR_COLOR));
@@ -182,6 +188,37 @@ public class LootboxContentGUI implements GUI {
         openMeta.lore(openLore);
         openButton.setItemMeta(openMeta);
         inventory.setItem(OPEN_BUTTON_SLOT, openButton);
+
+        // Bulk open button, only worth showing with more than one key
+        int bulkAmount = Math.min(keyCount, RewardDelivery.getBulkLimit(plugin));
+        if (bulkAmount > 1 && player.hasPermission("luckyrabbit.bulkopen")) {
+            ItemStack bulkButton = new ItemStack(Material.HOPPER);
+            ItemMeta bulkMeta = bulkButton.getItemMeta();
+            bulkMeta.displayName(Component.text("Open " + bulkAmount + " Keys")
+                    .color(ITEM_COLOR));
+            bulkMeta.lore(List.of(
+                    Component.text("Opens " + bulkAmount + " lootboxes at once")
+                            .color(DESCRIPTION_COLOR),
+                    Component.text("Rewards are merged into one delivery")
+                            .color(DESCRIPTION_COLOR),
+                    Component.empty(),
+                    Component.text("Click to open!")
+                            .color(INFO_COLOR)));
+            bulkButton.setItemMeta(bulkMeta);
+            inventory.setItem(BULK_OPEN_BUTTON_SLOT, bulkButton);
+        } else {
+            inventory.setItem(BULK_OPEN_BUTTON_SLOT, GUIUtils.createBorderItem());
+        }
+    }
+
+    /**
+     * Copies the open buttons to the viewed inventory after the key count changed.
+     */
+    private void refreshOpenButtons() {
+        updateOpenButton();
+        Inventory top = player.getOpenInventory().getTopInventory();
+        top.setItem(OPEN_BUTTON_SLOT, inventory.getItem(OPEN_BUTTON_SLOT));
+        top.setItem(BULK_OPEN_BUTTON_SLOT, inventory.getItem(BULK_OPEN_BUTTON_SLOT));
     }
 
     @Override
@@ -206,7 +243,11 @@ public class LootboxContentGUI implements GUI {
             player.closeInventory();
             LootboxListGUI.openGUI(player);
         } else if (slot == OPEN_BUTTON_SLOT && showOpenButton) {
-            handleOpenButton();
+            boolean instant = player.hasPermission("luckyrabbit.instantopen")
+                    && (event.isShiftClick() || plugin.getUserManager().isInstantOpen(player.getUniqueId()));
+            handleOpenButton(instant);
+        } else if (slot == BULK_OPEN_BUTTON_SLOT && showOpenButton && player.hasPermission("luckyrabbit.bulkopen")) {
+            handleBulkOpenButton();
         } else {
             // Calculate if click was in valid item area
             int row = slot / 9;
@@ -300,49 +341,81 @@ public class LootboxContentGUI implements GUI {
 
     /**
      * Handles opening the lootbox.
-     * Checks key availability and starts animation.
+     * Checks key availability and starts animation,
+     * or delivers the reward right away when opening instantly.
+     *
+     * @param instant Whether to skip the animation
      */
-    private void handleOpenButton() {
-        int keyCount = plugin.getUserManager().getKeyCount(player.getUniqueId(), lootbox.getId());
+    private void handleOpenButton(boolean instant) {
+        // Check if lootbox has items
+        if (lootbox.getItems().isEmpty()) {
+            player.sendMessage(Component.text("This lootbox is empty!")
+                    .color(ERROR_COLOR));
+            return;
+        }
 
-        if (keyCount > 0) {
-            // Check if lootbox has items
-            if (lootbox.getItems().isEmpty()) {
-                player.sendMessage(Component.text("This lootbox is empty!")
-                        .color(ERROR_COLOR));
+        // Take the key atomically, a double click can't open twice with one key
+        if (!plugin.getUserManager().useKey(player.getUniqueId(), lootbox.getId())) {
+            player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
+            player.sendMessage(Component.text("You don't have a key for this lootbox!")
+                    .color(ERROR_COLOR));
+            return;
+        }
+        OpenJournal.Session session = plugin.getOpenJournal().begin(player, lootbox, 1);
+
+        try {
+            if (instant) {
+                RewardDelivery.openInstantly(plugin, player, lootbox, session);
+
+                // Stay in the menu with the new key count
+                refreshOpenButtons();
                 return;
             }
 
-            try {
-                // Use key before creating animation
-                plugin.getUserManager().useKey(player.getUniqueId(), lootbox.getId());
-
-                BaseAnimationGUI animationGUI = switch (lootbox.getAnimationType()) {
-                    case PIN_POINT -> new PinPointSpinGUI(plugin, player, lootbox);
-                    case CIRCLE -> new CircleSpinGUI(plugin, player, lootbox);
-                    case CASCADE -> new CascadeSpinGUI(plugin, player, lootbox);
-                    case THREE_IN_ROW -> new ThreeInRowSpinGUI(plugin, player, lootbox);
-                    default -> new HorizontalSpinGUI(plugin, player, lootbox);
-                };
-
-                // Close inventory and show animation
-                player.closeInventory();
-                player.openInventory(animationGUI.getInventory());
-
-            } catch (Exception e) {
-                plugin.getLogger().log(Level.SEVERE, "Error creating animation GUI: {0}", e.getMessage());
-                e.printStackTrace();
-
-                // Refund the key and show error message
-                plugin.getUserManager().addKeys(player.getUniqueId(), lootbox.getId(), 1);
-                player.sendMessage(Component.text("Error opening lootbox: " + e.getMessage())
-                        .color(ERROR_COLOR));
-            }
-        } else {
-            player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
-            player.sendMessage(Component.text("You don't have a key for this lootbox!")
+            BaseAnimationGUI animationGUI = new FrameTableGUI(plugin, player, lootbox, session, lootbox.getAnimationType());
+            animationGUI.start();
+
+            // Close inventory and show animation
+            player.closeInventory();
+            player.openInventory(animationGUI.getInventory());
+
+        } catch (Exception e) {
+            Logger.error("Error creating animation GUI", e);
+
+            // Refund the key and show error message
+            plugin.getOpenJournal().refund(session);
+            player.sendMessage(Component.text("Error opening lootbox: " + e.getMessage())
+                    .color(ERROR_COLOR));
+        }
+    }
+
+    /**
+     * Handles the bulk open button.
+     * Opens as many keys as allowed in one delivery.
+     */
+    private void handleBulkOpenButton() {
+        int amount = Math.min(plugin.getUserManager().getKeyCount(player.getUniqueId(), lootbox.getId()),
+                RewardDelivery.getBulkLimit(plugin));
+
+        if (amount <= 1 || lootbox.getItems().isEmpty()) {
+            return;
+        }
+        if (!plugin.getUserManager().tryConsume(player.getUniqueId(), lootbox.getId(), amount)) {
+            return;
+        }
+        OpenJournal.Session session = plugin.getOpenJournal().begin(player, lootbox, amount);
+
+        try {
+            RewardDelivery.openBulk(plugin, player, lootbox, session);
+        } catch (Exception e) {
+            Logger.error("Error bulk opening lootbox", e);
+
+            // Refund the keys unless a reward was already given, and show error message
+            plugin.getOpenJournal().refund(session);
+            player.sendMessage(Component.text("Error opening lootbox: " + e.getMessage())
                     .color(ERROR_COLOR));
         }
+        refreshOpenButtons();
     }
 
     /**
@@ -11,6 +11,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.gui.utils.Decorations;
 import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -63,7 +64,7 @@ public class LootboxDeleteConfirmationGUI implements GUI {
     private void setupInventory() {
         // Fill with black glass
         for (int i = 0; i < inventory.getSize(); i++) {
-            inventory.setItem(i, new ItemStack(Material.BLACK_STAINED_GLASS_PANE));
+            inventory.setItem(i, Decorations.plain(Material.BLACK_STAINED_GLASS_PANE));
         }
 
         // Add lootbox representation in the middle
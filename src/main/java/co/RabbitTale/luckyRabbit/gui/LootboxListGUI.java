@@ -205,7 +205,7 @@ public class LootboxListGUI implements GUI {
         lore.add(Component.text("Statistics:")
                 .color(INFO_COLOR)
                 .decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("  • Times opened: " + lootbox.getOpenCount())
+        lore.add(Component.text("  • Times opened: " + plugin.getStatsStore().getOpens(lootbox.getId()))
                 .color(DESCRIPTION_COLOR)
                 .decoration(TextDecoration.ITALIC, false));
         lore.add(Component.text("  • Items available: " + lootbox.getItems().size())
@@ -0,0 +1,205 @@
+package co.RabbitTale.luckyRabbit.gui.animations;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+
+/*
+ * AnimationEngine.java
+ *
+ * Central ticker for all running lootbox opening animations.
+ * Replaces one scheduler task per animation with a single repeating task.
+ *
+ * Features:
+ * - One 1-tick repeating task for every active session
+ * - Sessions ordered by their next-frame deadline
+ * - Per-frame delays taken from each animation's easing curve
+ * - Per-tick time budget, overdue frames roll over to the next tick
+ * - Totals of slot updates saved by frame diffing
+ * - Skipped animations are moved up to the next tick
+ * - A failing frame ends its animation, the rolled reward is still delivered
+ *
+ * Scheduling:
+ * - A session is only touched when its deadline is reached
+ * - Oldest deadlines are served first, so no session starves
+ * - At least one frame is advanced per tick to guarantee progress
+ *
+ * Configuration:
+ * - animations.tick-budget-ms: Max time spent on frames per tick
+ */
+public class AnimationEngine {
+
+    private static final double DEFAULT_BUDGET_MS = 2.0;
+
+    private final LuckyRabbit plugin;
+    private final PriorityQueue<Session> sessions = new PriorityQueue<>(
+            Comparator.comparingLong(Session::deadline).thenComparingLong(Session::order));
+    private BukkitTask task;
+    private long currentTick = 0;
+    private long registered = 0;
+    private long budgetNanos;
+    private long slotWritesRequested = 0;
+    private long slotWritesPushed = 0;
+
+    /**
+     * Creates a new animation engine.
+     *
+     * @param plugin Plugin instance
+     */
+    public AnimationEngine(LuckyRabbit plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts the central ticker. Reads the tick budget from config.
+     */
+    public void start() {
+        if (task != null) {
+            return;
+        }
+
+        double budgetMs = plugin.getConfig().getDouble("animations.tick-budget-ms", DEFAULT_BUDGET_MS);
+        if (budgetMs <= 0) {
+            Logger.warning("Invalid animations.tick-budget-ms: " + budgetMs + ", using " + DEFAULT_BUDGET_MS);
+            budgetMs = DEFAULT_BUDGET_MS;
+        }
+        this.budgetNanos = (long) (budgetMs * 1_000_000L);
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        Logger.debug("Animation engine started with " + budgetMs + "ms tick budget");
+    }
+
+    /**
+     * Stops the ticker and drops all running sessions.
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        if (!sessions.isEmpty()) {
+            Logger.debug("Animation engine stopped with " + sessions.size() + " unfinished animations");
+        }
+        sessions.clear();
+    }
+
+    /**
+     * Registers an animation. Its first frame is played on the next tick.
+     * Must be called from the main thread.
+     *
+     * @param animation Animation to drive
+     */
+    public void register(BaseAnimationGUI animation) {
+        sessions.add(new Session(animation, currentTick, registered++));
+    }
+
+    /**
+     * Moves an animation's next frame to the next tick.
+     * Used when a player skips to the end of the animation.
+     *
+     * @param animation Running animation
+     */
+    public void expedite(BaseAnimationGUI animation) {
+        Session session = null;
+        for (Session candidate : sessions) {
+            if (candidate.animation() == animation) {
+                session = candidate;
+                break;
+            }
+        }
+        if (session != null && session.deadline() > currentTick + 1) {
+            sessions.remove(session);
+            sessions.add(new Session(animation, currentTick + 1, session.order()));
+        }
+    }
+
+    /**
+     * Gets the number of running animations.
+     *
+     * @return Active session count
+     */
+    public int getActiveCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Adds the frame buffer totals of a finished animation.
+     *
+     * @param requested Slot writes the animation requested
+     * @param pushed Slot writes actually sent
+     */
+    public void recordFrameStats(int requested, int pushed) {
+        slotWritesRequested += requested;
+        slotWritesPushed += pushed;
+        Logger.debug("Slot updates saved so far: " + getSlotWritesSkipped() + "/" + slotWritesRequested);
+    }
+
+    /**
+     * Gets the total slot writes requested by finished animations.
+     *
+     * @return Requested writes
+     */
+    public long getSlotWritesRequested() {
+        return slotWritesRequested;
+    }
+
+    /**
+     * Gets the total slot writes skipped by frame diffing.
+     *
+     * @return Skipped writes (slot-update packets saved)
+     */
+    public long getSlotWritesSkipped() {
+        return slotWritesRequested - slotWritesPushed;
+    }
+
+    /**
+     * Advances every session whose deadline has been reached,
+     * until the tick budget runs out.
+     */
+    private void tick() {
+        currentTick++;
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        int frames = 0;
+
+        while (!sessions.isEmpty() && sessions.peek().deadline() <= currentTick) {
+            if (frames > 0 && System.nanoTime() - start >= budgetNanos) {
+                Logger.debug("Animation tick budget exceeded after " + frames + " frames, deferring the rest");
+                break;
+            }
+
+            Session session = sessions.poll();
+            int delay;
+            try {
+                delay = session.animation().advanceFrame();
+            } catch (Exception e) {
+                Logger.error("Animation frame failed, finishing the opening without it", e);
+                try {
+                    session.animation().abort();
+                } catch (Exception abortError) {
+                    Logger.error("Failed to finish aborted animation", abortError);
+                }
+                continue;
+            }
+            frames++;
+
+            if (delay >= 0) {
+                sessions.add(new Session(session.animation(), currentTick + Math.max(delay, 1), session.order()));
+            }
+        }
+    }
+
+    /**
+     * A running animation and the tick its next frame is due.
+     */
+    private record Session(BaseAnimationGUI animation, long deadline, long order) {
+    }
+}
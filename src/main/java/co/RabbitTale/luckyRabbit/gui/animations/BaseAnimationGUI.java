@@ -1,32 +1,28 @@
 package co.RabbitTale.luckyRabbit.gui.animations;
 
-import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.Random;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 
-import co.RabbitTale.luckyRabbit.lootbox.entity.LootboxEntity;
 import org.bukkit.*;
-import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
-import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.DESCRIPTION_COLOR;
-import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.ITEM_COLOR;
-import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.SEPARATOR_COLOR;
-import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.TARGET_COLOR;
 import co.RabbitTale.luckyRabbit.gui.LootboxGUI;
+import co.RabbitTale.luckyRabbit.gui.utils.Decorations;
+import co.RabbitTale.luckyRabbit.lootbox.CompiledLootbox;
 import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
-import co.RabbitTale.luckyRabbit.lootbox.items.LootboxItem;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.OpenJournal;
 import co.RabbitTale.luckyRabbit.lootbox.rewards.Reward;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.RewardDelivery;
 import co.RabbitTale.luckyRabbit.lootbox.rewards.RewardRarity;
 import co.RabbitTale.luckyRabbit.utils.Logger;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.jetbrains.annotations.NotNull;
@@ -38,7 +34,7 @@ import org.jetbrains.annotations.NotNull;
  * Provides common functionality for animations and reward handling.
  *
  * Features:
- * - Configurable animation duration and steps
+ * - Frame delays and layout supplied by subclasses
  * - Reward selection and distribution
  * - Sound and particle effects
  * - Legendary item special effects
@@ -46,13 +42,19 @@ import org.jetbrains.annotations.NotNull;
  *
  * Animation Flow:
  * 1. Initialize animation parameters
- * 2. Generate spin sequence
- * 3. Play animation with delays
- * 4. Show final reward
- * 5. Execute reward actions
+ * 2. start(): Decorate and register with the AnimationEngine
+ * 3. Play frames with their eased delays
+ * 4. Show final reward (or skip straight to it)
+ * 5. Deliver through RewardDelivery (kept for the next join if the player left)
  *
  * Reward Selection:
  * - Weighted random selection based on chances
+ * - O(1) draws from the lootbox's shared RewardSampler
+ * - Outcome drawn from a per-opening seeded SplittableRandom (replayable)
+ * - Rewards and display stacks shared via CompiledLootbox
+ * - Glowing winner copies cached per display stack
+ * - Slot-diffing FrameBuffer, unchanged slots are never resent
+ * - Shared decoration items from the Decorations registry
  * - Rarity-based effects and announcements
  * - Support for custom actions (commands/permissions)
  *
@@ -66,12 +68,19 @@ public abstract class BaseAnimationGUI extends LootboxGUI {
     protected final Player player;
     protected final List<Reward> possibleRewards;
     protected final Reward finalReward;
+    protected final int finalRewardIndex;
+    protected final CompiledLootbox compiled;
+    protected final OpenJournal.Session session;
+    private final SplittableRandom random; // Outcome only, visuals use ThreadLocalRandom
     protected final Lootbox lootbox;
     protected int currentStep = 0;
     protected int totalSteps;
-    protected List<Integer> delays;
+    protected final FrameBuffer frame;
+    // Keyed by identity: sources are the shared display stacks of the compiled lootbox
+    private final Map<ItemStack, ItemStack> glowCache = new IdentityHashMap<>();
+    private boolean rewardScheduled = false;
 
-    protected BaseAnimationGUI(LuckyRabbit plugin, Player player, Lootbox lootbox, int guiSize) {
+    protected BaseAnimationGUI(LuckyRabbit plugin, Player player, Lootbox lootbox, OpenJournal.Session session, int guiSize) {
         // First call super with temporary inventory
         super(plugin, Bukkit.createInventory(null, guiSize, Component.empty()));
 
@@ -81,30 +90,48 @@ public abstract class BaseAnimationGUI extends LootboxGUI {
                         .append(Component.text(PlainTextComponentSerializer.plainText()
                                 .serialize(MiniMessage.miniMessage().deserialize(lootbox.getDisplayName())))));
 
+        this.frame = new FrameBuffer(inventory);
         this.player = player;
         this.lootbox = lootbox;
 
-        // Convert LootboxItems to Rewards
-        this.possibleRewards = new ArrayList<>(lootbox.getItems().values().stream()
-                .map(this::convertToReward)
-                .toList());
+        // Rewards are compiled once per lootbox and shared by every opening
+        this.compiled = lootbox.getCompiled();
+        this.possibleRewards = compiled.getRewards();
+        this.session = session;
+        this.random = new SplittableRandom(session.getSeed());
+        this.finalRewardIndex = compiled.rollIndex(random);
+        this.finalReward = compiled.getReward(finalRewardIndex);
+        plugin.getOpenJournal().rolled(session, compiled.getVersion());
 
-        if (possibleRewards.isEmpty()) {
-            throw new IllegalStateException("No rewards available in lootbox!");
-        }
+    }
 
-        this.finalReward = selectFinalReward();
+    /**
+     * Decorates the GUI and hands the animation to the AnimationEngine.
+     * Call once the subclass is fully constructed, before showing it.
+     *
+     * @throws IllegalStateException if total steps were not set
+     */
+    public void start() {
+        if (totalSteps <= 0) {
+            throw new IllegalStateException("Total steps must be set before starting animation!");
+        }
 
-        // Initialize delays list before starting animation
-        this.delays = new ArrayList<>();
+        decorateGUI();
+        plugin.getAnimationEngine().register(this);
+    }
 
-        // Set default total steps if not set by child class
-        if (this.totalSteps <= 0) {
-            this.totalSteps = 40; // Default value
+    /**
+     * Skips the animation to its last frame. The reward is still
+     * delivered through the normal finish.
+     */
+    public void skip() {
+        if (isFinished || currentStep >= totalSteps - 1) {
+            return;
         }
 
-        decorateGUI();
-        setupAnimation();
+        currentStep = totalSteps - 1;
+        plugin.getAnimationEngine().expedite(this);
+        Logger.debug("Animation for " + player.getName() + " skipped to last frame");
     }
 
     protected void setTotalSteps(int steps) {
@@ -114,79 +141,18 @@ public abstract class BaseAnimationGUI extends LootboxGUI {
         this.totalSteps = steps;
     }
 
-    private Reward convertToReward(LootboxItem item) {
-        // Get the original item and check for amount range
-        ItemStack displayItem = item.getDisplayItem().clone();
-        String amountStr = String.valueOf(displayItem.getAmount());
-        int minAmount = displayItem.getAmount();
-        int maxAmount = displayItem.getAmount();
-
-        // Check if amount contains a range (e.g., "8-16")
-        if (amountStr.contains("-")) {
-            try {
-                String[] range = amountStr.split("-");
-                minAmount = Integer.parseInt(range[0]);
-                maxAmount = Integer.parseInt(range[1]);
-                // Generate random amount between min and max (inclusive)
-                int randomAmount = minAmount + new Random().nextInt(maxAmount - minAmount + 1);
-                displayItem.setAmount(randomAmount);
-            } catch (Exception e) {
-                Logger.error("Failed to parse item amount range: " + amountStr);
-            }
-        }
-
-        // Add amount range to lore if it's a range
-        if (minAmount != maxAmount) {
-            ItemMeta meta = displayItem.getItemMeta();
-            if (meta != null) {
-                List<Component> lore = meta.hasLore() ? new ArrayList<>(Objects.requireNonNull(meta.lore())) : new ArrayList<>();
-                lore.add(0, Component.text("Amount: " + minAmount + "-" + maxAmount)
-                        .color(NamedTextColor.GRAY));
-                meta.lore(lore);
-                displayItem.setItemMeta(meta);
-            }
-        }
-
-        return new Reward(
-                item,
-                item.getChance(),
-                RewardRarity.valueOf(item.getRarity().toUpperCase()),
-                item.getAction()
-        );
-    }
-
-    private void setupAnimation() {
-        if (totalSteps <= 0) {
-            throw new IllegalStateException("Total steps must be set before starting animation!");
-        }
-
-        // Generate delays based on animation duration
-        this.delays = generateDelays(totalSteps, getAnimationDuration());
-
-        if (delays.isEmpty()) {
-            throw new IllegalStateException("No animation delays generated!");
-        }
-
-        startAnimation();
-    }
-
-    List<Integer> generateDelays(int totalSteps, int totalDuration) {
-        List<Integer> delays = new ArrayList<>();
-        double[] cumulativeTimes = new double[totalSteps + 1];
-
-        for (int i = 0; i <= totalSteps; i++) {
-            double t = (double) i / totalSteps;
-            double easedT = t * t; // Quadratic easing
-            cumulativeTimes[i] = totalDuration * easedT;
-            if (i > 0) {
-                int delay = (int) Math.round(cumulativeTimes[i] - cumulativeTimes[i - 1]);
-                delays.add(Math.max(delay, 1));
-            }
-        }
-        return delays;
+    /**
+     * Gets a glowing copy of a display item. Copies are cached per source
+     * stack, so the winning slot doesn't rebuild ItemMeta on every frame.
+     *
+     * @param item Shared display stack
+     * @return Cached glowing copy (do not modify)
+     */
+    ItemStack addGlowEffect(ItemStack item) {
+        return glowCache.computeIfAbsent(item, this::createGlowItem);
     }
 
-    ItemStack addGlowEffect(ItemStack item) {
+    private ItemStack createGlowItem(ItemStack item) {
         ItemStack glowingItem = item.clone();
         ItemMeta meta = glowingItem.getItemMeta();
         meta.addEnchant(org.bukkit.enchantments.Enchantment.LUCK, 1, true);
@@ -195,235 +161,78 @@ public abstract class BaseAnimationGUI extends LootboxGUI {
         return glowingItem;
     }
 
-    private Reward selectFinalReward() {
-        if (possibleRewards.isEmpty()) {
-            throw new IllegalStateException("No rewards available!");
-        }
-
-        double totalWeight = possibleRewards.stream()
-                .mapToDouble(Reward::chance)
-                .sum();
-
-        double random = Math.random() * totalWeight;
-        double currentWeight = 0;
-
-        for (Reward reward : possibleRewards) {
-            currentWeight += reward.chance();
-            if (currentWeight >= random) {
-                return reward;
-            }
-        }
-
-        return possibleRewards.get(0);
-    }
-
-    protected void startAnimation() {
-        if (delays.isEmpty()) {
-            throw new IllegalStateException("Animation delays not initialized!");
+    /**
+     * Plays the next animation frame. Called by the AnimationEngine
+     * whenever this animation's previous delay has elapsed.
+     *
+     * @return Ticks until the next frame, or -1 once the animation finished
+     */
+    int advanceFrame() {
+        if (currentStep >= totalSteps) {
+            finishAnimation();
+            return -1;
         }
 
-        Bukkit.getScheduler().runTaskTimer(plugin, (task) -> {
-            if (currentStep >= totalSteps) {
-                task.cancel();
-                finishAnimation();
-                return;
-            }
-
-            updateItems();
-            playTickSound();
-            currentStep++;
-        }, 0L, Math.max(1, delays.get(Math.min(currentStep, delays.size() - 1))));
+        updateItems();
+        playTickSound();
+        return getFrameDelay(currentStep++);
     }
 
     protected void finishAnimation() {
         isFinished = true;
         isProcessingReward = true;
 
+        Logger.debug("Animation for " + player.getName() + " finished: " + frame.getPushed() + "/"
+                + frame.getRequested() + " slot updates sent, " + frame.getSkipped() + " unchanged skipped");
+        plugin.getAnimationEngine().recordFrameStats(frame.getRequested(), frame.getPushed());
+        Logger.debug("Decorations reused: " + Decorations.getHits() + ", built: " + Decorations.getBuilds());
+
         // Play winning sounds
-        player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
-        player.playSound(player.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_TWINKLE, 1.0f, 1.0f);
+        playWinSounds();
 
         // Special effects for legendary items
         if (finalReward.rarity() == RewardRarity.LEGENDARY) {
-            // Get the lootbox entity location
-            Location lootboxLocation = null;
-            for (LootboxEntity entity : plugin.getLootboxManager().getAllEntities()) {
-                if (entity.getLootboxId().equals(lootbox.getId())) {
-                    lootboxLocation = entity.getLocation();
-                    break;
-                }
-            }
-
-            // If we found the lootbox location, play effects there
-            if (lootboxLocation != null) {
-                final Location effectLocation = lootboxLocation.clone().add(0, 1, 0); // Slightly above the entity
-
-                // Play special sounds at entity location for everyone to hear
-                effectLocation.getWorld().playSound(effectLocation, Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
-                effectLocation.getWorld().playSound(effectLocation, Sound.ENTITY_ENDER_DRAGON_DEATH, 0.5f, 2.0f);
-                effectLocation.getWorld().playSound(effectLocation, Sound.ENTITY_WITHER_SPAWN, 0.3f, 2.0f);
-
-                // Create particle effects
-                new BukkitRunnable() {
-                    double y = 0;
-                    int ticks = 0;
-
-                    @Override
-                    public void run() {
-                        if (ticks >= 40) { // 2 seconds of effects
-                            this.cancel();
-                            return;
-                        }
-
-                        Location particleLoc = effectLocation.clone().add(0, y, 0);
-
-                        // Spiral effect
-                        double radius = 1.5;
-                        for (double degree = 0; degree < 360; degree += 20) {
-                            double radian = Math.toRadians(degree);
-                            double x = Math.cos(radian) * radius;
-                            double z = Math.sin(radian) * radius;
-
-                            Location spawnLoc = particleLoc.clone().add(x, 0, z);
-
-                            // Dragon breath particles rising up
-                            effectLocation.getWorld().spawnParticle(
-                                Particle.DRAGON_BREATH,
-                                spawnLoc,
-                                1, 0, 0, 0, 0
-                            );
-
-                            // End rod particles for extra effect
-                            effectLocation.getWorld().spawnParticle(
-                                Particle.END_ROD,
-                                spawnLoc,
-                                1, 0, 0, 0, 0.05
-                            );
-                        }
-
-                        // Lightning effect (visual only)
-                        if (ticks % 5 == 0) {
-                            effectLocation.getWorld().strikeLightningEffect(particleLoc);
-                        }
-
-                        y += 0.1;
-                        ticks++;
-                    }
-                }.runTaskTimer(plugin, 0L, 1L);
-            }
+            RewardDelivery.playLegendaryEffects(plugin, player, lootbox);
         }
 
         // Give reward after a short delay
+        rewardScheduled = true;
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            // Get reward item and prepare for giving
-            ItemStack rewardItem = finalReward.displayItem().clone();
-            ItemMeta meta = rewardItem.getItemMeta();
-
-            // Initialize rewardName with a default value
-            Component rewardName = meta != null && meta.hasDisplayName() ?
-                    MiniMessage.miniMessage().deserialize(PlainTextComponentSerializer.plainText()
-                            .serialize(Objects.requireNonNull(meta.displayName()))) :
-                    Component.text(rewardItem.getType().name());
-
-            // Check original config for amount range
-            ConfigurationSection itemSection = finalReward.item().getOriginalConfig() != null ?
-                finalReward.item().getOriginalConfig().getConfigurationSection("item") : null;
-
-            if (itemSection != null) {
-                String amountStr = itemSection.getString("amount");
-                if (amountStr != null && amountStr.contains("-")) {
-                    try {
-                        String[] range = amountStr.split("-");
-                        int min = Integer.parseInt(range[0]);
-                        int max = Integer.parseInt(range[1]);
-                        int randomAmount = min + new Random().nextInt(max - min + 1);
-                        rewardItem.setAmount(randomAmount);
-                        Logger.debug("Generated random amount: " + randomAmount + " (range: " + min + "-" + max + ")");
-                    } catch (Exception e) {
-                        Logger.error("Failed to parse item amount range: " + amountStr);
-                    }
-                }
-            }
-
-            if (finalReward.action() != null) {
-                // For virtual rewards, use display name and first lore line
-                if (meta != null && meta.hasLore() && !Objects.requireNonNull(meta.lore()).isEmpty()) {
-                    String firstLoreLine = PlainTextComponentSerializer.plainText()
-                            .serialize(Objects.requireNonNull(meta.lore()).get(0));
-
-                    // Extract the actual reward from lore (e.g., "Adds 1000 coins" -> "1000 coins")
-                    String reward = firstLoreLine.replaceFirst(".*?([0-9]+.*?)$", "$1");
-
-                    // Update rewardName for virtual rewards
-                    rewardName = meta.hasDisplayName() ?
-                            MiniMessage.miniMessage().deserialize(PlainTextComponentSerializer.plainText()
-                                    .serialize(Objects.requireNonNull(meta.displayName()))) :
-                            Component.text(reward).color(NamedTextColor.YELLOW);
-
-                    // Execute the action
-                    finalReward.action().execute(player);
-                }
-            } else {
-                // For physical items, clean the lore and give the item
-                if (meta != null && meta.hasLore()) {
-                    List<Component> lore = new ArrayList<>(Objects.requireNonNull(meta.lore()));
-
-                    // Remove amount range, chance and rarity lines
-                    lore.removeIf(line -> {
-                        String plainText = PlainTextComponentSerializer.plainText().serialize(line);
-                        return plainText.startsWith("Amount:") ||
-                               plainText.startsWith("Chance:") ||
-                               plainText.startsWith("Rarity:") ||
-                               plainText.isEmpty(); // Remove empty lines
-                    });
-
-                    // Remove any trailing empty lines
-                    while (!lore.isEmpty() && PlainTextComponentSerializer.plainText()
-                            .serialize(lore.get(lore.size() - 1)).isEmpty()) {
-                        lore.remove(lore.size() - 1);
-                    }
-
-                    meta.lore(lore);
-                    rewardItem.setItemMeta(meta);
-                }
-
-                // Give the cleaned item
-                player.getInventory().addItem(rewardItem);
-            }
-
-            // Global broadcast message
-            Component broadcastMessage = Component.text("» ")
-                    .color(SEPARATOR_COLOR)
-                    .append(Component.text(player.getName())
-                            .color(TARGET_COLOR))
-                    .append(Component.text(" has won ")
-                            .color(DESCRIPTION_COLOR))
-                    .append(Component.text(rewardItem.getAmount() + "x ")
-                            .color(ITEM_COLOR))
-                    .append(rewardName
-                            .color(ITEM_COLOR))
-                    .append(Component.text(" (")
-                            .color(DESCRIPTION_COLOR))
-                    .append(Component.text(finalReward.rarity().toString())
-                            .color(finalReward.rarity().getColor()))
-                    .append(Component.text(") from ")
-                            .color(DESCRIPTION_COLOR))
-                    .append(MiniMessage.miniMessage().deserialize(lootbox.getDisplayName()))
-                    .append(Component.text("!")
-                            .color(DESCRIPTION_COLOR));
-
-            // Broadcast to all players
-            for (Player p : Bukkit.getOnlinePlayers()) {
-                p.sendMessage(broadcastMessage);
-            }
-
-            // Increment open count and save
-            lootbox.incrementOpenCount();
-            plugin.getLootboxManager().saveLootbox(lootbox);
+            giveReward();
+            player.closeInventory();
+        }, 20L);
+    }
 
+    /**
+     * Ends the animation after a frame failed. Closes the GUI and
+     * finishes the opening with the reward that was already rolled.
+     */
+    void abort() {
+        isFinished = true;
+        if (player.getOpenInventory().getTopInventory().getHolder() == this) {
             player.closeInventory();
+        }
+        if (!rewardScheduled) {
+            rewardScheduled = true;
+            giveReward();
+        }
+    }
+
+    private void giveReward() {
+        isProcessingReward = true;
+        if (!player.isOnline()) {
+            // Items given now would be lost, the journal replays the reward on the next join
+            plugin.getOpenJournal().defer(session);
             isProcessingReward = false;
-        }, 20L);
+            return;
+        }
+        RewardDelivery.deliver(plugin, player, lootbox, compiled, finalRewardIndex, session, random);
+        isProcessingReward = false;
+    }
+
+    protected void playWinSounds() {
+        player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
+        player.playSound(player.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_TWINKLE, 1.0f, 1.0f);
     }
 
     protected void playTickSound() {
@@ -432,22 +241,42 @@ public abstract class BaseAnimationGUI extends LootboxGUI {
     }
 
     protected ItemStack getRandomRewardItem() {
-        if (possibleRewards.isEmpty()) {
-            return new ItemStack(Material.BARRIER); // Fallback item
-        }
-        return possibleRewards.get(new Random().nextInt(possibleRewards.size())).displayItem();
+        return compiled.getDisplayItem(ThreadLocalRandom.current().nextInt(compiled.size()));
     }
 
-    protected void fillEmptySlots(int... excludedSlots) {
-        outer:
-        for (int i = 0; i < inventory.getSize(); i++) {
-            for (int excluded : excludedSlots) {
-                if (i == excluded) {
-                    continue outer;
-                }
-            }
-            inventory.setItem(i, new ItemStack(Material.BLACK_STAINED_GLASS_PANE));
+    /**
+     * Gets a random display item other than the final reward, used to fill
+     * spin sequences. Falls back to the final reward if it's the only item.
+     *
+     * @return Shared display ItemStack (do not modify)
+     */
+    protected ItemStack getRandomFillerItem() {
+        int size = compiled.size();
+        if (size == 1) {
+            return getFinalRewardItem();
         }
+        int index = ThreadLocalRandom.current().nextInt(size - 1);
+        return compiled.getDisplayItem(index >= finalRewardIndex ? index + 1 : index);
+    }
+
+    /**
+     * Gets the display item of the final reward.
+     *
+     * @return Shared display ItemStack (do not modify)
+     */
+    protected ItemStack getFinalRewardItem() {
+        return compiled.getDisplayItem(finalRewardIndex);
+    }
+
+    /**
+     * Sets a slot through the frame buffer.
+     * Only slots whose contents changed are sent to viewers.
+     *
+     * @param slot Slot to set
+     * @param item New contents (must not be modified afterwards)
+     */
+    protected void setSlot(int slot, ItemStack item) {
+        frame.set(slot, item);
     }
 
     // Make sure the inventory is properly associated with this GUI
@@ -462,6 +291,7 @@ public abstract class BaseAnimationGUI extends LootboxGUI {
             Inventory newInv = Bukkit.createInventory(this, inventory.getSize(), title);
             newInv.setContents(inventory.getContents());
             this.inventory = newInv;
+            frame.retarget(newInv);
         }
         return inventory;
     }
@@ -469,13 +299,11 @@ public abstract class BaseAnimationGUI extends LootboxGUI {
     // Abstract methods that must be implemented by specific animations
     protected abstract void decorateGUI();
 
-    protected abstract int getAnimationDuration(); // Duration in ticks
+    protected abstract int getFrameDelay(int step); // Ticks until the next frame
 
     public void show() {
         player.openInventory(inventory);
     }
 
     protected abstract void updateItems();
-
-    protected abstract List<ItemStack> generateSpinSequence(int totalSteps, int winningSlot);
 }
@@ -0,0 +1,99 @@
+package co.RabbitTale.luckyRabbit.gui.animations;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+/*
+ * FrameBuffer.java
+ *
+ * Slot-diffing writer for animation inventories.
+ * Remembers the last stack written to every slot and only pushes
+ * slots whose contents actually changed, since each write to an open
+ * inventory becomes a slot-update packet for its viewers.
+ *
+ * Diffing:
+ * - Same instance: skipped without comparing
+ * - Equal stack (type, amount and meta): skipped
+ * - Anything else: written to the inventory
+ *
+ * Metrics:
+ * - requested: setSlot calls made by the animation
+ * - pushed: writes that actually reached the inventory
+ *
+ * Stacks passed in must not be modified afterwards,
+ * as they are kept as the reference for later frames.
+ */
+public class FrameBuffer {
+
+    private Inventory inventory;
+    private final ItemStack[] lastSent;
+    private int requested = 0;
+    private int pushed = 0;
+
+    /**
+     * Creates a frame buffer for an (empty) inventory.
+     *
+     * @param inventory Inventory to write to
+     */
+    public FrameBuffer(Inventory inventory) {
+        this.inventory = inventory;
+        this.lastSent = new ItemStack[inventory.getSize()];
+    }
+
+    /**
+     * Writes a slot if its contents changed since the last write.
+     *
+     * @param slot Slot to write
+     * @param item New contents (null to clear)
+     * @return true if the slot was written
+     */
+    public boolean set(int slot, ItemStack item) {
+        requested++;
+
+        ItemStack previous = lastSent[slot];
+        if (previous == item || (previous != null && previous.equals(item))) {
+            return false;
+        }
+
+        lastSent[slot] = item;
+        inventory.setItem(slot, item);
+        pushed++;
+        return true;
+    }
+
+    /**
+     * Points the buffer at a replacement inventory holding the same contents.
+     *
+     * @param inventory New inventory
+     */
+    public void retarget(Inventory inventory) {
+        this.inventory = inventory;
+    }
+
+    /**
+     * Gets the number of slot writes requested.
+     *
+     * @return Requested writes
+     */
+    public int getRequested() {
+        return requested;
+    }
+
+    /**
+     * Gets the number of slot writes pushed to the inventory.
+     *
+     * @return Pushed writes
+     */
+    public int getPushed() {
+        return pushed;
+    }
+
+    /**
+     * Gets the number of slot writes skipped because nothing changed.
+     *
+     * @return Skipped writes
+     */
+    public int getSkipped() {
+        return requested - pushed;
+    }
+}
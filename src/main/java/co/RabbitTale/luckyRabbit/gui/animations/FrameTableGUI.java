@@ -0,0 +1,165 @@
+package co.RabbitTale.luckyRabbit.gui.animations;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
+import co.RabbitTale.luckyRabbit.lootbox.animation.AnimationDefinition;
+import co.RabbitTale.luckyRabbit.lootbox.animation.AnimationType;
+import co.RabbitTale.luckyRabbit.lootbox.animation.FrameTable;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.OpenJournal;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+
+/*
+ * FrameTableGUI.java
+ *
+ * Plays any animation defined in the animations folder.
+ * All layout work is done when the definition is compiled,
+ * so each frame only resolves reward references.
+ *
+ * Features:
+ * - Replays precompiled FrameTable frames
+ * - Lazily rolled scroll sequence per opening
+ * - Definition tick and win sounds
+ * - Falls back to HORIZONTAL if a type has no definition
+ * - Skipping jumps to the last frame, skipped borders are coalesced
+ */
+public class FrameTableGUI extends BaseAnimationGUI {
+
+    private final AnimationDefinition definition;
+    private final FrameTable frames;
+    private ItemStack[] sequence;
+    private int renderedStep = -1;
+
+    /**
+     * Creates a new animation GUI for an animation type.
+     *
+     * @param plugin Plugin instance
+     * @param player Player viewing the animation
+     * @param lootbox Lootbox being opened
+     * @param session Journal session of the opening
+     * @param type Animation type to play
+     * @throws IllegalStateException if no definition is available
+     */
+    public FrameTableGUI(LuckyRabbit plugin, Player player, Lootbox lootbox, OpenJournal.Session session,
+                         AnimationType type) {
+        this(plugin, player, lootbox, session, resolve(type));
+    }
+
+    private FrameTableGUI(LuckyRabbit plugin, Player player, Lootbox lootbox, OpenJournal.Session session,
+                          AnimationDefinition definition) {
+        super(plugin, player, lootbox, session, definition.getFrames().getSize());
+        this.definition = definition;
+        this.frames = definition.getFrames();
+        setTotalSteps(frames.getSteps());
+    }
+
+    private static AnimationDefinition resolve(AnimationType type) {
+        if (type.getDefinition() != null) {
+            return type.getDefinition();
+        }
+
+        Logger.warning("Animation " + type.name() + " has no definition, using HORIZONTAL");
+        AnimationDefinition fallback = AnimationType.HORIZONTAL.getDefinition();
+        if (fallback == null) {
+            throw new IllegalStateException("No animation definitions loaded!");
+        }
+        return fallback;
+    }
+
+    @Override
+    protected void decorateGUI() {
+        for (int slot = 0; slot < frames.getSize(); slot++) {
+            ItemStack item = frames.getInitial(slot);
+            if (item != null) {
+                setSlot(slot, item);
+            }
+        }
+    }
+
+    @Override
+    protected void updateItems() {
+        if (currentStep > renderedStep + 1) {
+            catchUp();
+        }
+        renderedStep = currentStep;
+
+        FrameTable.Frame frame = frames.getFrame(currentStep);
+
+        int[] staticSlots = frame.staticSlots();
+        ItemStack[] staticItems = frame.staticItems();
+        for (int i = 0; i < staticSlots.length; i++) {
+            setSlot(staticSlots[i], staticItems[i]);
+        }
+
+        int[] reelSlots = frame.reelSlots();
+        int[] reelRefs = frame.reelRefs();
+        boolean[] reelGlow = frame.reelGlow();
+        for (int i = 0; i < reelSlots.length; i++) {
+            ItemStack item = resolveItem(reelRefs[i]);
+            setSlot(reelSlots[i], reelGlow[i] ? addGlowEffect(item) : item);
+        }
+    }
+
+    /**
+     * Applies the static writes of frames jumped over by a skip.
+     * Only the last write per slot is sent.
+     */
+    private void catchUp() {
+        ItemStack[] pending = new ItemStack[frames.getSize()];
+        for (int step = renderedStep + 1; step < currentStep; step++) {
+            FrameTable.Frame skipped = frames.getFrame(step);
+            for (int i = 0; i < skipped.staticSlots().length; i++) {
+                pending[skipped.staticSlots()[i]] = skipped.staticItems()[i];
+            }
+        }
+        for (int slot = 0; slot < pending.length; slot++) {
+            if (pending[slot] != null) {
+                setSlot(slot, pending[slot]);
+            }
+        }
+    }
+
+    /**
+     * Resolves a reel reference to the item shown this opening.
+     */
+    private ItemStack resolveItem(int ref) {
+        if (ref == FrameTable.FINAL) {
+            return getFinalRewardItem();
+        }
+        if (ref == FrameTable.RANDOM) {
+            return getRandomRewardItem();
+        }
+
+        if (sequence == null) {
+            sequence = new ItemStack[frames.getSequenceLength()];
+        }
+        if (sequence[ref] == null) {
+            sequence[ref] = getRandomFillerItem();
+        }
+        return sequence[ref];
+    }
+
+    @Override
+    protected int getFrameDelay(int step) {
+        return frames.getDelay(step);
+    }
+
+    @Override
+    protected void playTickSound() {
+        AnimationDefinition.TickSound tickSound = definition.getTickSound();
+        if (tickSound == null) {
+            return;
+        }
+        player.playSound(player.getLocation(), tickSound.sound(), tickSound.volume(),
+                tickSound.pitchAt(currentStep, totalSteps));
+    }
+
+    @Override
+    protected void playWinSounds() {
+        for (AnimationDefinition.SoundEffect sound : definition.getWinSounds()) {
+            player.playSound(player.getLocation(), sound.sound(), sound.volume(), sound.pitch());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package co.RabbitTale.luckyRabbit.gui.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import net.kyori.adventure.text.Component;
+
+/*
+ * Decorations.java
+ *
+ * Flyweight registry for decorative GUI items.
+ * Glass panes, arrows, fillers and buttons are built once and shared,
+ * instead of allocating a new ItemStack and ItemMeta on every frame.
+ *
+ * Kinds:
+ * - plain: Bare stack of a material (default name)
+ * - pane: Stack of a material with a blank name (animation borders)
+ * - icon: Any named icon or lore variant, built by a factory on first use
+ *
+ * Rules:
+ * - Returned stacks are shared - never modify them
+ * - Inventory.setItem copies the stack, so placing them is safe
+ * - Icon keys must include every variant (state, color, text)
+ *
+ * Stats:
+ * - hits: Lookups served from the registry
+ * - builds: Stacks actually created
+ */
+public final class Decorations {
+
+    private static final Map<String, ItemStack> CACHE = new ConcurrentHashMap<>();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder BUILDS = new LongAdder();
+
+    private Decorations() {
+    }
+
+    /**
+     * Gets a bare stack of a material.
+     *
+     * @param material Material of the stack
+     * @return Shared ItemStack
+     */
+    public static ItemStack plain(Material material) {
+        return icon("plain:" + material.name(), () -> new ItemStack(material));
+    }
+
+    /**
+     * Gets a blank-named stack of a material. Used for animated glass borders.
+     *
+     * @param material Material of the stack
+     * @return Shared ItemStack
+     */
+    public static ItemStack pane(Material material) {
+        return icon("pane:" + material.name(), () -> {
+            ItemStack item = new ItemStack(material);
+            ItemMeta meta = item.getItemMeta();
+            meta.displayName(Component.text(" "));
+            item.setItemMeta(meta);
+            return item;
+        });
+    }
+
+    /**
+     * Gets a named icon, building it on first use.
+     *
+     * @param key Unique key covering every variant of the icon
+     * @param factory Builds the icon if it's not registered yet
+     * @return Shared ItemStack
+     */
+    public static ItemStack icon(String key, Supplier<ItemStack> factory) {
+        ItemStack item = CACHE.get(key);
+        if (item != null) {
+            HITS.increment();
+            return item;
+        }
+        return CACHE.computeIfAbsent(key, k -> {
+            BUILDS.increment();
+            return factory.get();
+        });
+    }
+
+    /**
+     * Gets the number of lookups served without building a stack.
+     *
+     * @return Registry hits
+     */
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Gets the number of stacks built by the registry.
+     *
+     * @return Registry builds
+     */
+    public static long getBuilds() {
+        return BUILDS.sum();
+    }
+
+    /**
+     * Drops every registered decoration. They are rebuilt on next use.
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+}
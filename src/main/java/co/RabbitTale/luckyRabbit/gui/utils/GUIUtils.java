@@ -24,6 +24,7 @@ import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.*;
  * - Navigation button generation
  * - Consistent styling across GUIs
  * - Confirmation buttons creation
+ * - Shared items from the Decorations registry
  *
  * Layout Helpers:
  * - Border: Gray stained glass panes
@@ -55,16 +56,18 @@ public class GUIUtils {
     }
 
     /**
-     * Creates a border item (gray glass pane). Used for inventory borders.
+     * Gets the border item (gray glass pane). Used for inventory borders.
      *
-     * @return ItemStack configured for border
+     * @return Shared ItemStack configured for border
      */
     public static ItemStack createBorderItem() {
-        ItemStack item = new ItemStack(Material.GRAY_STAINED_GLASS_PANE);
-        ItemMeta meta = item.getItemMeta();
-        meta.displayName(Component.empty().decoration(TextDecoration.ITALIC, false));
-        item.setItemMeta(meta);
-        return item;
+        return Decorations.icon("border", () -> {
+            ItemStack item = new ItemStack(Material.GRAY_STAINED_GLASS_PANE);
+            ItemMeta meta = item.getItemMeta();
+            meta.displayName(Component.empty().decoration(TextDecoration.ITALIC, false));
+            item.setItemMeta(meta);
+            return item;
+        });
     }
 
     /**
@@ -74,9 +77,14 @@ public class GUIUtils {
      * @param name Button display name
      * @param material Button material
      * @param enabled Whether button is enabled
-     * @return ItemStack configured as button
+     * @return Shared ItemStack configured as button
      */
     public static ItemStack createNavigationButton(String name, Material material, boolean enabled) {
+        return Decorations.icon("nav:" + material.name() + ":" + name + ":" + enabled,
+                () -> buildNavigationButton(name, material, enabled));
+    }
+
+    private static ItemStack buildNavigationButton(String name, Material material, boolean enabled) {
         ItemStack item = new ItemStack(material);
         ItemMeta meta = item.getItemMeta();
 
@@ -105,22 +113,26 @@ public class GUIUtils {
      */
     public static void setupConfirmationButtons(Inventory inventory) {
         // Add confirm button (green wool)
-        ItemStack confirm = new ItemStack(Material.LIME_WOOL);
-        ItemMeta confirmMeta = confirm.getItemMeta();
-        confirmMeta.displayName(Component.text("Confirm Delete")
-                .color(LootboxCommand.ITEM_COLOR)
-                .decoration(TextDecoration.ITALIC, false));
-        confirm.setItemMeta(confirmMeta);
-        inventory.setItem(11, confirm);
+        inventory.setItem(11, Decorations.icon("confirm-delete", () -> {
+            ItemStack confirm = new ItemStack(Material.LIME_WOOL);
+            ItemMeta confirmMeta = confirm.getItemMeta();
+            confirmMeta.displayName(Component.text("Confirm Delete")
+                    .color(LootboxCommand.ITEM_COLOR)
+                    .decoration(TextDecoration.ITALIC, false));
+            confirm.setItemMeta(confirmMeta);
+            return confirm;
+        }));
 
         // Add cancel button (red wool)
-        ItemStack cancel = new ItemStack(Material.RED_WOOL);
-        ItemMeta cancelMeta = cancel.getItemMeta();
-        cancelMeta.displayName(Component.text("Cancel")
-                .color(LootboxCommand.ERROR_COLOR)
-                .decoration(TextDecoration.ITALIC, false));
-        cancel.setItemMeta(cancelMeta);
-        inventory.setItem(15, cancel);
+        inventory.setItem(15, Decorations.icon("cancel", () -> {
+            ItemStack cancel = new ItemStack(Material.RED_WOOL);
+            ItemMeta cancelMeta = cancel.getItemMeta();
+            cancelMeta.displayName(Component.text("Cancel")
+                    .color(LootboxCommand.ERROR_COLOR)
+                    .decoration(TextDecoration.ITALIC, false));
+            cancel.setItemMeta(cancelMeta);
+            return cancel;
+        }));
     }
 
     /**
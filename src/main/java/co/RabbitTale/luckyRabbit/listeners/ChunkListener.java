@@ -0,0 +1,65 @@
+package co.RabbitTale.luckyRabbit.listeners;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+
+/*
+ * ChunkListener.java
+ *
+ * Sets up and drops lootbox entities together with their chunk,
+ * so lootboxes in chunks nobody is near cost nothing.
+ *
+ * Features:
+ * - Saved stands are adopted when the entities of their chunk load
+ * - Missing stands are spawned, orphaned ones removed
+ * - Stands are no longer tracked once their chunk's entities unload
+ */
+public class ChunkListener implements Listener {
+
+    private final LuckyRabbit plugin;
+
+    /**
+     * Creates a new chunk listener.
+     *
+     * @param plugin The LuckyRabbit plugin instance
+     */
+    public ChunkListener(LuckyRabbit plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Sets up the lootboxes of a loaded chunk whose entities are already there.
+     *
+     * @param event The chunk load event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        plugin.getLootboxManager().spawnChunk(event.getChunk());
+    }
+
+    /**
+     * Adopts the lootbox stands among the loaded entities.
+     *
+     * @param event The entities load event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        plugin.getLootboxManager().loadChunk(event.getChunk(), event.getEntities());
+    }
+
+    /**
+     * Stops tracking the lootbox stands of an unloading chunk.
+     *
+     * @param event The entities unload event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        plugin.getLootboxManager().unloadChunk(event.getChunk());
+    }
+}
@@ -1,18 +1,15 @@
 package co.RabbitTale.luckyRabbit.listeners;
 
-import java.util.List;
-
-import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerInteractAtEntityEvent;
-import org.bukkit.metadata.MetadataValue;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
 import co.RabbitTale.luckyRabbit.gui.LootboxContentGUI;
 import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
+import co.RabbitTale.luckyRabbit.lootbox.entity.LootboxEntity;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 
@@ -51,25 +48,19 @@ public class EntityListener implements Listener {
         Entity entity = event.getRightClicked();
         Player player = event.getPlayer();
 
-        // Check if clicked entity is an armor stand
-        if (!(entity instanceof ArmorStand)) {
-            return;
-        }
-
         // Check if it's our lootbox entity
-        if (!entity.hasMetadata("LootboxEntity")) {
+        LootboxEntity lootboxEntity = plugin.getLootboxManager().getEntityById(entity.getUniqueId());
+        if (lootboxEntity == null) {
+            // A tagged stand not set up yet (lootboxes still loading) can't be opened either
+            if (LootboxEntity.getTaggedLootboxId(entity) != null) {
+                event.setCancelled(true);
+            }
             return;
         }
 
         event.setCancelled(true);
 
-        // Get lootbox ID from metadata
-        List<MetadataValue> metadata = entity.getMetadata("LootboxEntity");
-        if (metadata.isEmpty()) {
-            return;
-        }
-
-        String lootboxId = metadata.get(0).asString();
+        String lootboxId = lootboxEntity.getLootboxId();
         Lootbox lootbox = plugin.getLootboxManager().getLootbox(lootboxId);
 
         if (lootbox == null) {
@@ -23,13 +23,15 @@ import co.RabbitTale.luckyRabbit.gui.animations.BaseAnimationGUI;
  * Features:
  * - Custom GUI click handling
  * - Animation GUI protection
+ * - Click to skip animations
  * - Inventory drag prevention
  * - GUI close handling
  */
 public class GUIListener implements Listener {
 
     /**
-     * Handles inventory click events. Prevents item movement in animation GUIs.
+     * Handles inventory click events. Prevents item movement in animation GUIs
+     * and lets permitted players skip them.
      * Routes clicks to appropriate GUI handlers.
      *
      * @param event The click event
@@ -51,6 +53,12 @@ public class GUIListener implements Listener {
             player.updateInventory();
             // Block all inventory actions
             event.getView().setCursor(null);
+
+            // Clicking the animation skips to its last frame
+            if (clickedInv == topInv && topInv.getHolder() instanceof BaseAnimationGUI animation
+                    && player.hasPermission("luckyrabbit.instantopen")) {
+                animation.skip();
+            }
             return;
         }
 
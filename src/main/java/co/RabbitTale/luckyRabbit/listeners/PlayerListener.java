@@ -1,30 +1,25 @@
 package co.RabbitTale.luckyRabbit.listeners;
 
-import java.util.UUID;
-
-import org.bukkit.entity.ArmorStand;
-import org.bukkit.entity.Entity;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
 import co.RabbitTale.luckyRabbit.effects.CreatorEffects;
-import co.RabbitTale.luckyRabbit.lootbox.entity.LootboxEntity;
-import co.RabbitTale.luckyRabbit.utils.Logger;
 
 /*
  * PlayerListener.java
  *
  * Handles player-related events for the LuckyRabbit plugin.
- * Manages user data loading/unloading and entity visibility.
+ * Manages user data loading/unloading.
  *
  * Features:
- * - User data management on join/quit
+ * - User data prefetch on login, management on join/quit
  * - Creator effects handling
- * - Lootbox entity visibility control
- * - Per-player entity state management
+ * - Rewards of interrupted openings delivered on join (OpenJournal)
  */
 public class PlayerListener implements Listener {
 
@@ -41,9 +36,22 @@ public class PlayerListener implements Listener {
         this.creatorEffects = new CreatorEffects(plugin);
     }
 
+    /**
+     * Reads user data off the main thread while the player logs in,
+     * so the join doesn't wait for the file.
+     *
+     * @param event The pre-login event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            plugin.getUserManager().prefetch(event.getUniqueId());
+        }
+    }
+
     /**
      * Handles player join events.
-     * Loads user data and updates entity visibility.
+     * Loads user data and delivers missed rewards.
      *
      * @param event The join event
      */
@@ -51,31 +59,18 @@ public class PlayerListener implements Listener {
     public void onPlayerJoin(PlayerJoinEvent event) {
         plugin.getUserManager().loadUserData(event.getPlayer().getUniqueId());
 
+        // Rewards of openings that were interrupted or finished while offline
+        plugin.getOpenJournal().resume(event.getPlayer());
+
         // Start creator effects if applicable
         if (CreatorEffects.isCreator(event.getPlayer().getUniqueId())) {
             creatorEffects.startEffects(event.getPlayer());
         }
-
-        // Update visibility of all lootbox entities for the player
-        for (Entity entity : event.getPlayer().getWorld().getEntities()) {
-            if (entity instanceof ArmorStand && entity.hasMetadata("LootboxEntity")) {
-                try {
-                    UUID entityUUID = entity.getUniqueId();
-                    LootboxEntity lootboxEntity = plugin.getLootboxManager().getEntityById(entityUUID);
-
-                    if (lootboxEntity != null) {
-                        lootboxEntity.show(event.getPlayer());
-                    }
-                } catch (Exception e) {
-                    Logger.error("Failed to process lootbox entity visibility: " + e.getMessage());
-                }
-            }
-        }
     }
 
     /**
      * Handles player quit events.
-     * Saves and unloads user data.
+     * Moves user data to the offline cache.
      *
      * @param event The quit event
      */
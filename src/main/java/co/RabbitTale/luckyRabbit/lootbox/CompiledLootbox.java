@@ -0,0 +1,316 @@
+package co.RabbitTale.luckyRabbit.lootbox;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import co.RabbitTale.luckyRabbit.lootbox.items.LootboxItem;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.Reward;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.RewardRarity;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.RewardSampler;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/*
+ * CompiledLootbox.java
+ *
+ * Immutable, precomputed view of a lootbox's contents.
+ * Built once when the lootbox is loaded or edited and shared by
+ * every concurrent opening, so the open path allocates nothing per item.
+ *
+ * Contents (all arrays share the sampler's index order):
+ * - rewards: Reward records with parsed rarity and action
+ * - displayItems: Decorated display stacks (rarity, chance, amount range)
+ * - amounts: Amount ranges parsed from the item config (e.g. "8-16")
+ * - sampler: Alias table for O(1) weighted draws
+ * - version: Content hash, recorded with every opening
+ *
+ * Rolls:
+ * - Items are ordered by id, so the same seed and version always
+ *   roll the same rewards (see OpenLog and /lb replay)
+ * - Draw methods take the opening's random source and allocate nothing
+ *
+ * Display stacks are shared - never modify them directly.
+ * Clone first if a mutable copy is needed.
+ */
+public final class CompiledLootbox {
+
+    private final List<Reward> rewards;
+    private final ItemStack[] displayItems;
+    private final AmountRange[] amounts;
+    private final RewardSampler sampler;
+    private final String version;
+
+    private CompiledLootbox(List<Reward> rewards, ItemStack[] displayItems, AmountRange[] amounts,
+                            RewardSampler sampler, String version) {
+        this.rewards = rewards;
+        this.displayItems = displayItems;
+        this.amounts = amounts;
+        this.sampler = sampler;
+        this.version = version;
+    }
+
+    /**
+     * Compiles the current items of a lootbox.
+     *
+     * @param lootbox Lootbox to compile
+     * @return New compiled view
+     * @throws IllegalStateException if the lootbox has no items
+     */
+    public static CompiledLootbox compile(Lootbox lootbox) {
+        if (lootbox.getItems().isEmpty()) {
+            throw new IllegalStateException("No rewards available in lootbox!");
+        }
+
+        // Fixed order by item id, so a seed rolls the same rewards after a restart
+        List<LootboxItem> items = new ArrayList<>(lootbox.getItems().values());
+        items.sort(Comparator.comparing(LootboxItem::getId));
+
+        RewardSampler sampler = new RewardSampler(items);
+        int size = sampler.size();
+        StringBuilder signature = new StringBuilder();
+
+        List<Reward> rewards = new ArrayList<>(size);
+        ItemStack[] displayItems = new ItemStack[size];
+        AmountRange[] amounts = new AmountRange[size];
+
+        for (int i = 0; i < size; i++) {
+            LootboxItem item = sampler.getItems().get(i);
+            AmountRange amount = parseAmount(item);
+
+            rewards.add(new Reward(
+                    item,
+                    item.getChance(),
+                    RewardRarity.fromString(item.getRarity()),
+                    item.getAction()
+            ));
+            amounts[i] = amount;
+            displayItems[i] = createDisplayItem(item, amount);
+            signature.append(item.getId()).append('|').append(item.getChance()).append('|')
+                    .append(amount.min()).append('-').append(amount.max()).append(';');
+        }
+
+        String version = String.format("%08x", signature.toString().hashCode());
+        Logger.debug("Compiled lootbox " + lootbox.getId() + " with " + size + " rewards (version " + version + ")");
+        return new CompiledLootbox(List.copyOf(rewards), displayItems, amounts, sampler, version);
+    }
+
+    /**
+     * Reads the amount (or amount range) of an item from its original config.
+     *
+     * @param item Item to read
+     * @return Parsed amount range
+     */
+    private static AmountRange parseAmount(LootboxItem item) {
+        int amount = item.getItem().getAmount();
+        ConfigurationSection itemSection = item.getOriginalConfig() != null
+                ? item.getOriginalConfig().getConfigurationSection("item") : null;
+
+        if (itemSection != null) {
+            String amountStr = itemSection.getString("amount");
+            if (amountStr != null && amountStr.contains("-")) {
+                try {
+                    String[] range = amountStr.split("-");
+                    int min = Integer.parseInt(range[0].trim());
+                    int max = Integer.parseInt(range[1].trim());
+                    if (min > 0 && max >= min) {
+                        return new AmountRange(min, max);
+                    }
+                    Logger.error("Invalid item amount range: " + amountStr);
+                } catch (Exception e) {
+                    Logger.error("Failed to parse item amount range: " + amountStr);
+                }
+            }
+        }
+
+        return new AmountRange(amount, amount);
+    }
+
+    /**
+     * Builds the shared display stack for an item.
+     * Adds the amount range to the lore if the amount is randomized.
+     *
+     * @param item Item to render
+     * @param amount Amount range of the item
+     * @return Display ItemStack
+     */
+    private static ItemStack createDisplayItem(LootboxItem item, AmountRange amount) {
+        if (!amount.isRange()) {
+            return item.getCachedDisplayItem();
+        }
+
+        ItemStack displayItem = item.getDisplayItem();
+        ItemMeta meta = displayItem.getItemMeta();
+        if (meta != null) {
+            List<Component> lore = meta.hasLore() ? new ArrayList<>(Objects.requireNonNull(meta.lore())) : new ArrayList<>();
+            lore.add(0, Component.text("Amount: " + amount.min() + "-" + amount.max())
+                    .color(NamedTextColor.GRAY));
+            meta.lore(lore);
+            displayItem.setItemMeta(meta);
+        }
+        return displayItem;
+    }
+
+    /**
+     * Gets all rewards in index order.
+     *
+     * @return Unmodifiable list of rewards
+     */
+    public List<Reward> getRewards() {
+        return rewards;
+    }
+
+    /**
+     * Gets a reward by index.
+     *
+     * @param index Reward index
+     * @return Reward at that index
+     */
+    public Reward getReward(int index) {
+        return rewards.get(index);
+    }
+
+    /**
+     * Gets the shared display stack of a reward. Must not be modified.
+     *
+     * @param index Reward index
+     * @return Shared display ItemStack
+     */
+    public ItemStack getDisplayItem(int index) {
+        return displayItems[index];
+    }
+
+    /**
+     * Gets the amount range of a reward.
+     *
+     * @param index Reward index
+     * @return Amount range
+     */
+    public AmountRange getAmountRange(int index) {
+        return amounts[index];
+    }
+
+    /**
+     * Gets the precompiled sampler.
+     *
+     * @return Shared sampler
+     */
+    public RewardSampler getSampler() {
+        return sampler;
+    }
+
+    /**
+     * Gets the content version. Changes whenever items, chances or
+     * amounts change, so a recorded seed is only replayable on the same version.
+     *
+     * @return Short hex content hash
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * Rolls the reward of a single opening.
+     *
+     * @param random Random source of the opening
+     * @return Index of the won reward
+     */
+    public int rollIndex(RandomGenerator random) {
+        return sampler.nextIndex(random);
+    }
+
+    /**
+     * Rolls the amount of a won reward. Fixed amounts draw nothing.
+     * Called after rollIndex with the same random source.
+     *
+     * @param index Index of the won reward
+     * @param random Random source of the opening
+     * @return Amount to give
+     */
+    public int rollAmount(int index, RandomGenerator random) {
+        return amounts[index].roll(random);
+    }
+
+    /**
+     * Rolls a bulk opening: every reward first, then the amounts
+     * of each won item in index order.
+     *
+     * @param count Number of openings
+     * @param random Random source of the bulk opening
+     * @return Wins and total amounts per reward index
+     */
+    public BulkRoll rollBulk(int count, RandomGenerator random) {
+        int[] wins = new int[size()];
+        for (int i = 0; i < count; i++) {
+            wins[sampler.nextIndex(random)]++;
+        }
+
+        int[] totals = new int[size()];
+        for (int index = 0; index < wins.length; index++) {
+            if (wins[index] == 0) {
+                continue;
+            }
+            if (rewards.get(index).action() != null) {
+                totals[index] = wins[index];
+            } else if (amounts[index].isRange()) {
+                for (int i = 0; i < wins[index]; i++) {
+                    totals[index] += amounts[index].roll(random);
+                }
+            } else {
+                totals[index] = amounts[index].min() * wins[index];
+            }
+        }
+        return new BulkRoll(wins, totals);
+    }
+
+    /**
+     * Gets the number of rewards.
+     *
+     * @return Reward count
+     */
+    public int size() {
+        return rewards.size();
+    }
+
+    /**
+     * Result of a bulk roll, indexed like the rewards.
+     *
+     * @param wins Times each reward was won
+     * @param amounts Total amount of each reward (times won for actions)
+     */
+    public record BulkRoll(int[] wins, int[] amounts) {
+    }
+
+    /**
+     * Inclusive amount range of a reward.
+     * A fixed amount has min == max.
+     */
+    public record AmountRange(int min, int max) {
+
+        /**
+         * Checks if this amount is randomized.
+         *
+         * @return true if min and max differ
+         */
+        public boolean isRange() {
+            return min != max;
+        }
+
+        /**
+         * Rolls an amount within this range.
+         *
+         * @param random Random source to draw from
+         * @return Amount between min and max (inclusive)
+         */
+        public int roll(RandomGenerator random) {
+            return isRange() ? min + random.nextInt(max - min + 1) : min;
+        }
+    }
+}
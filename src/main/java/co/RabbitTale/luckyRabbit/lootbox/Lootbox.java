@@ -2,6 +2,7 @@ package co.RabbitTale.luckyRabbit.lootbox;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -14,6 +15,8 @@ import co.RabbitTale.luckyRabbit.api.FeatureManager;
 import co.RabbitTale.luckyRabbit.lootbox.animation.AnimationType;
 import co.RabbitTale.luckyRabbit.lootbox.items.LootboxItem;
 import co.RabbitTale.luckyRabbit.lootbox.items.OraxenLootboxItem;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.RewardSampler;
+import co.RabbitTale.luckyRabbit.utils.Logger;
 import lombok.Getter;
 
 @Getter
@@ -24,8 +27,9 @@ public class Lootbox {
     private final Map<String, LootboxItem> items;
     private final List<Location> locations;
     private AnimationType animationType;
-    private int openCount;
     private boolean modified = false;
+    private boolean dirty = false;
+    private volatile CompiledLootbox compiled;
 
     /**
      * Creates a new lootbox instance.
@@ -41,7 +45,6 @@ public class Lootbox {
         this.items = new HashMap<>();
         this.locations = new ArrayList<>();
         this.animationType = animationType;
-        this.openCount = 0;
     }
 
     /**
@@ -53,9 +56,14 @@ public class Lootbox {
     public static Lootbox fromConfig(FileConfiguration config) {
         String id = config.getString("id");
         String displayName = config.getString("displayName", id);
-        AnimationType animationType = AnimationType.valueOf(
-                config.getString("animationType", "HORIZONTAL").toUpperCase()
-        );
+        AnimationType animationType;
+        try {
+            animationType = AnimationType.valueOf(config.getString("animationType", "HORIZONTAL"));
+        } catch (IllegalArgumentException e) {
+            // Custom animation file was removed
+            Logger.warning("Lootbox " + id + " uses " + e.getMessage().toLowerCase() + ", using HORIZONTAL");
+            animationType = AnimationType.HORIZONTAL;
+        }
 
         Lootbox lootbox = new Lootbox(id, displayName, animationType);
 
@@ -86,9 +94,6 @@ public class Lootbox {
             }
         }
 
-        // Load statistics
-        lootbox.openCount = config.getInt("openedCount", 0);
-
         return lootbox;
     }
 
@@ -99,7 +104,8 @@ public class Lootbox {
      */
     public void addItem(LootboxItem item) {
         items.put(item.getId(), item);
-        modified = true;
+        invalidateCompiled();
+        setModified();
     }
 
     /**
@@ -109,24 +115,52 @@ public class Lootbox {
      */
     public void removeItem(ItemStack item) {
         items.values().removeIf(lootboxItem -> lootboxItem.getItem().isSimilar(item));
-        modified = true;
+        invalidateCompiled();
+        setModified();
     }
 
     /**
-     * Adds a spawn location for this lootbox.
+     * Gets the compiled view of the current items (rewards, display stacks,
+     * amount ranges and sampler). Built on first use and shared by every
+     * opening until the items change.
      *
-     * @param location Location to add
+     * @return Shared compiled lootbox
+     * @throws IllegalStateException if the lootbox has no items
      */
-    public void addLocation(Location location) {
-        locations.add(location);
-        modified = true;
+    public CompiledLootbox getCompiled() {
+        CompiledLootbox result = compiled;
+        if (result == null) {
+            result = CompiledLootbox.compile(this);
+            compiled = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the precompiled reward sampler for the current items.
+     *
+     * @return Shared sampler instance
+     * @throws IllegalStateException if the lootbox has no items
+     */
+    public RewardSampler getRewardSampler() {
+        return getCompiled().getSampler();
     }
 
     /**
-     * Increments the open count statistic.
+     * Drops the compiled view of the items.
+     * Must be called after anything mutates the items map.
      */
-    public void incrementOpenCount() {
-        this.openCount++;
+    public void invalidateCompiled() {
+        compiled = null;
+    }
+
+    /**
+     * Adds a spawn location for this lootbox.
+     *
+     * @param location Location to add
+     */
+    public void addLocation(Location location) {
+        locations.add(location);
         setModified();
     }
 
@@ -140,10 +174,35 @@ public class Lootbox {
     }
 
     /**
-     * Marks the lootbox as modified.
+     * Marks the lootbox as modified and queues it for the next save.
      */
     public void setModified() {
         this.modified = true;
+        this.dirty = true;
+    }
+
+    /**
+     * Checks if the lootbox has changes that are not written to disk yet.
+     * Main thread only.
+     *
+     * @return true if a save is pending
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Queues the lootbox for the next save without marking it as modified.
+     */
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * Clears the pending save, called once a snapshot has been taken.
+     */
+    public void clearDirty() {
+        this.dirty = false;
     }
 
     /**
@@ -153,7 +212,7 @@ public class Lootbox {
      */
     public void setAnimationType(AnimationType animationType) {
         this.animationType = animationType;
-        this.modified = true;
+        setModified();
     }
 
     /**
@@ -181,28 +240,37 @@ public class Lootbox {
                 boolean hasCommandAction = item.getAction() != null;
                 return isOraxenItem || hasCommandAction;
             });
-            modified = true;
+            invalidateCompiled();
+            setModified();
         }
     }
 
     /**
      * Removes a spawn location.
      *
-     * @param location Location to remove
+     * @param location Saved location, or any location in the same block
+     * @return true if a location was removed
      */
-    public void removeLocation(Location location) {
+    public boolean removeLocation(Location location) {
         // Remove the exact location if it exists
-        locations.remove(location);
+        boolean removed = locations.remove(location);
 
-        // If not found, try to find a location that matches coordinates
-        locations.removeIf(loc ->
-            loc.getWorld().equals(location.getWorld()) &&
-            Math.abs(loc.getX() - location.getX()) < 0.1 && // Small delta for X and Z
-            Math.abs(loc.getY() - location.getY()) < 0.5 && // Medium delta for Y to account for small animations
-            Math.abs(loc.getZ() - location.getZ()) < 0.1
-        );
+        // If not found, remove the location in the same block
+        long block = PlacementIndex.blockKey(location);
+        Iterator<Location> iterator = locations.iterator();
+        while (!removed && iterator.hasNext()) {
+            Location loc = iterator.next();
+            if (loc.getWorld() != null && loc.getWorld().equals(location.getWorld())
+                    && PlacementIndex.blockKey(loc) == block) {
+                iterator.remove();
+                removed = true;
+            }
+        }
 
-        modified = true;
+        if (removed) {
+            setModified();
+        }
+        return removed;
     }
 
     /**
@@ -212,6 +280,6 @@ public class Lootbox {
      */
     public void setLore(List<String> lore) {
         this.lore = new ArrayList<>(lore);
-        this.modified = true;
+        setModified();
     }
 }
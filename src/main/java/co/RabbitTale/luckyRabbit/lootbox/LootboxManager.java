@@ -1,8 +1,8 @@
 package co.RabbitTale.luckyRabbit.lootbox;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -33,6 +33,8 @@ import co.RabbitTale.luckyRabbit.lootbox.items.LootboxItem;
 import co.RabbitTale.luckyRabbit.lootbox.items.MinecraftLootboxItem;
 import co.RabbitTale.luckyRabbit.lootbox.items.OraxenLootboxItem;
 import co.RabbitTale.luckyRabbit.utils.Logger;
+import co.RabbitTale.luckyRabbit.utils.SafeFiles;
+import co.RabbitTale.luckyRabbit.utils.SaveQueue;
 import io.th0rgal.oraxen.api.OraxenItems;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
@@ -60,11 +62,23 @@ public class LootboxManager {
      *   └── custom/      - User-created lootboxes
      *
      * Entity Management:
-     * - Automatic entity respawning on server restart
-     * - Chunk loading management for entities
+     * - Placements indexed by chunk (PlacementIndex)
+     * - Entities are set up when their chunk loads and dropped when it unloads,
+     *   chunks are never loaded or kept loaded for a lootbox
+     * - Stands are saved with their chunk and adopted again by their PDC tags,
+     *   tracked by their entity UUID
+     * - After a start or reload, loaded chunks are set up incrementally
+     *   under a per-tick time budget (RespawnPipeline)
      * - Entity cleanup on plugin disable
      * - Location persistence in config
      *
+     * Saving:
+     * - Changes mark the lootbox dirty, dirty lootboxes are saved every save-interval
+     * - Open statistics live in the StatsStore, not in the lootbox files
+     * - Lootboxes are serialized on the main thread and written by a SaveQueue
+     * - Files are replaced atomically, damaged files are restored from their backup
+     * - Reload and disable flush all pending saves first, unchanged files are never rewritten
+     *
      * Restrictions:
      * - Free version: Limited number of custom lootboxes
      * - Trial version: Increased limits with time restriction
@@ -73,7 +87,11 @@ public class LootboxManager {
     private final LuckyRabbit plugin;
     private final Map<String, Lootbox> lootboxes;
     private final Map<UUID, LootboxEntity> entities;
-    private int respawnTaskId = -1;
+    private final PlacementIndex placements;
+    private final RespawnPipeline respawnPipeline;
+    private final SaveQueue saveQueue;
+    private boolean indexed = false;
+    private int autoSaveTaskId = -1;
 
     /**
      * Initializes the LootboxManager.
@@ -84,6 +102,10 @@ public class LootboxManager {
         this.plugin = plugin;
         this.lootboxes = new HashMap<>();
         this.entities = new HashMap<>();
+        this.placements = new PlacementIndex();
+        this.respawnPipeline = new RespawnPipeline(plugin, this);
+        this.saveQueue = new SaveQueue("LuckyRabbit-LootboxSave",
+                plugin.getConfig().getBoolean("storage.fsync", true));
     }
 
     /**
@@ -131,11 +153,12 @@ public class LootboxManager {
         // Load each file
         for (File file : files) {
             try {
-                YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+                YamlConfiguration config = SafeFiles.loadYaml(file);
                 String id = config.getString("id");
 
                 // Create lootbox with the formatted display name
                 Lootbox lootbox = Lootbox.fromConfig(config);
+                migrateStatistics(lootbox, config);
 
                 // Enforce restrictions for non-example lootboxes
                 if (!isExampleLootbox(lootbox.getId())) {
@@ -148,6 +171,7 @@ public class LootboxManager {
                     }
                 }
 
+                precompile(lootbox);
                 lootboxes.put(id, lootbox);
             } catch (Exception e) {
                 Logger.error("Failed to load lootbox from " + file.getName() + ": " + e.getMessage());
@@ -260,25 +284,15 @@ public class LootboxManager {
         Component displayName = MiniMessage.miniMessage().deserialize(lootbox.getDisplayName());
 
         // Remove all entities
-        for (Location location : lootbox.getLocations()) {
-            for (Entity entity : location.getWorld().getEntities()) {
-                if (entity instanceof ArmorStand && entity.hasMetadata("LootboxEntity")) {
-                    String lootboxId = entity.getMetadata("LootboxEntity").get(0).asString();
-                    if (lootboxId.equals(id)) {
-                        entity.remove();
-                    }
-                }
-            }
+        for (PlacementIndex.Placement placement : placements.removeLootbox(id, lootbox.getLocations())) {
+            despawn(placement);
         }
 
         // Remove from maps
         lootboxes.remove(id);
 
-        // Delete file
-        File file = new File(plugin.getDataFolder(), "lootboxes/" + id + ".yml");
-        if (file.exists() && !file.delete()) {
-            Logger.error("Failed to delete lootbox file: " + id);
-        }
+        // Delete file after any save still queued for it
+        saveQueue.delete(new File(plugin.getDataFolder(), "lootboxes/" + id + ".yml"));
 
         Component message = Component.text("Lootbox ")
                 .color(LootboxCommand.SUCCESS_COLOR)
@@ -359,6 +373,7 @@ public class LootboxManager {
             // Clear and update the lootbox items
             existingItems.clear();
             existingItems.putAll(updatedItems);
+            lootbox.invalidateCompiled();
         } else {
             // Calculate remaining chance after manually set items
             double remainingChance = 100.0 - chance;
@@ -402,10 +417,12 @@ public class LootboxManager {
             // Clear and update the lootbox items
             existingItems.clear();
             existingItems.putAll(updatedItems);
+            lootbox.invalidateCompiled();
         }
 
         // Save lootbox
         saveLootbox(lootbox);
+        precompile(lootbox);
 
         // Show success message
         if (player != null) {
@@ -499,16 +516,8 @@ public class LootboxManager {
         location.setX(Math.floor(location.getX()) + 0.5);
         location.setZ(Math.floor(location.getZ()) + 0.5);
 
-        // Ensure chunk is loaded
-        Chunk chunk = location.getChunk();
-        if (!chunk.isLoaded()) {
-            chunk.load();
-        }
-        chunk.setForceLoaded(true);
-
-        // Create entity
-        LootboxEntity entity = new LootboxEntity(plugin, location, lootbox);
-        entities.put(entity.getUniqueId(), entity);
+        // The player stands in the chunk, so it is loaded
+        track(placements.add(lootbox.getId(), location), new LootboxEntity(plugin, location, lootbox));
 
         // Save location
         lootbox.addLocation(location);
@@ -530,7 +539,8 @@ public class LootboxManager {
 
     /**
      * Saves a lootbox to its configuration file. Skips saving unmodified
-     * example lootboxes.
+     * example lootboxes. The lootbox is serialized right away and written
+     * by the save queue, so this never blocks on disk.
      *
      * @param lootbox Lootbox to save
      */
@@ -541,6 +551,7 @@ public class LootboxManager {
             return;
         }
 
+        lootbox.clearDirty();
         File file = new File(plugin.getDataFolder(), "lootboxes/" + lootbox.getId() + ".yml");
         YamlConfiguration config = new YamlConfiguration();
 
@@ -571,41 +582,65 @@ public class LootboxManager {
             }
         }
 
-        // Save locations if any exist
-        if (!lootbox.getLocations().isEmpty()) {
-            ConfigurationSection locationsSection = config.getConfigurationSection("locations");
-            int locIndex = 0;
-            for (Location location : lootbox.getLocations()) {
-                assert locationsSection != null;
-                ConfigurationSection locationSection = locationsSection.createSection(String.valueOf(locIndex++));
-                locationSection.set("world", location.getWorld().getName());
-                locationSection.set("x", location.getX());
-                locationSection.set("y", location.getY());
-                locationSection.set("z", location.getZ());
-            }
-        }
+        // Save locations
+        getEntityPos(lootbox, config);
 
-        // Statistics
-        config.set("openedCount", lootbox.getOpenCount());
+        saveQueue.write(file, config.saveToString());
+    }
 
-        try {
-            config.save(file);
-            Logger.debug("Saved lootbox: " + lootbox.getId());
-        } catch (IOException e) {
-            Logger.error("Failed to save lootbox: " + lootbox.getId(), e);
+    /**
+     * Starts the periodic save of changed lootboxes, using
+     * settings.save-interval (seconds). Restarts the task if already running.
+     */
+    public void startAutoSave() {
+        if (autoSaveTaskId != -1) {
+            plugin.getServer().getScheduler().cancelTask(autoSaveTaskId);
         }
+
+        long interval = Math.max(plugin.getConfig().getLong("settings.save-interval", 300), 1) * 20L;
+        autoSaveTaskId = plugin.getServer().getScheduler()
+                .runTaskTimer(plugin, this::saveDirty, interval, interval)
+                .getTaskId();
     }
 
     /**
-     * Saves all lootboxes to disk. Only saves modified example lootboxes.
+     * Saves every lootbox changed since its last save,
+     * e.g. open statistics from rewards.
      */
-    public void saveAll() {
-        // Save all lootboxes
+    public void saveDirty() {
+        int saved = 0;
         for (Lootbox lootbox : lootboxes.values()) {
-            if (!isExampleLootbox(lootbox.getId()) || lootbox.hasBeenModified()) {
+            if (lootbox.isDirty()) {
                 saveLootbox(lootbox);
+                saved++;
             }
         }
+        if (saved > 0) {
+            Logger.debug("Auto-saved " + saved + " lootbox(es)");
+        }
+    }
+
+    /**
+     * Saves changed lootboxes and waits until everything is on disk.
+     * Used before lootbox files are read again.
+     */
+    public void flush() {
+        saveDirty();
+        saveQueue.await();
+    }
+
+    /**
+     * Stops the periodic save, saves the lootboxes changed since their
+     * last save and waits for the writes to finish. Unchanged files are
+     * left alone, so hand edits made while the server runs survive.
+     */
+    public void shutdownSaving() {
+        if (autoSaveTaskId != -1) {
+            plugin.getServer().getScheduler().cancelTask(autoSaveTaskId);
+            autoSaveTaskId = -1;
+        }
+        saveDirty();
+        saveQueue.shutdown();
     }
 
     /**
@@ -618,6 +653,31 @@ public class LootboxManager {
         return id.equals("example") || id.equals("example2");
     }
 
+    /**
+     * Moves the open count of files written by older versions
+     * to the statistics store. The key is dropped on the next save.
+     *
+     * @param lootbox Loaded lootbox
+     * @param config Configuration it was loaded from
+     */
+    private void migrateStatistics(Lootbox lootbox, YamlConfiguration config) {
+        if (config.contains("openedCount")) {
+            plugin.getStatsStore().migrateOpenCount(lootbox.getId(), config.getLong("openedCount"));
+        }
+    }
+
+    /**
+     * Builds the compiled reward view of a lootbox up front,
+     * so the first opening doesn't pay for it.
+     *
+     * @param lootbox Lootbox to compile
+     */
+    private void precompile(Lootbox lootbox) {
+        if (!lootbox.getItems().isEmpty()) {
+            lootbox.getCompiled();
+        }
+    }
+
     /**
      * Gets a lootbox by its ID.
      *
@@ -708,20 +768,22 @@ public class LootboxManager {
         // First, load example lootboxes
         for (File file : files) {
             try {
-                YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+                YamlConfiguration config = SafeFiles.loadYaml(file);
                 String id = config.getString("id", "");
 
                 if (id.isEmpty()) {
                     // If no ID in config, use filename without extension
                     id = file.getName().replace(".yml", "");
                     config.set("id", id);
-                    config.save(file);
+                    saveQueue.write(file, config.saveToString());
                 }
 
                 Lootbox lootbox = Lootbox.fromConfig(config);
+                migrateStatistics(lootbox, config);
+                precompile(lootbox);
                 lootboxes.put(id, lootbox);
                 Logger.debug("Loaded lootbox: " + id);
-            } catch (IOException e) {
+            } catch (Exception e) {
                 Logger.error("Failed to load lootbox from " + file.getName() + ": " + e.getMessage());
                 e.printStackTrace();
             }
@@ -743,106 +805,197 @@ public class LootboxManager {
     }
 
     /**
-     * Respawns all lootbox entities in the world. Handles chunk loading and
-     * entity creation.
+     * Rebuilds the placement index from the loaded lootboxes and starts
+     * setting up the entities of chunks that are loaded right now, a few
+     * chunks per tick (RespawnPipeline). The others are set up when their
+     * chunk loads.
      */
     public void respawnEntities() {
-        // Add a respawning flag to prevent multiple concurrent respawns
-        if (plugin.getServer().getScheduler().isCurrentlyRunning(respawnTaskId)) {
-            Logger.debug("Respawn task already running, skipping...");
-            return;
-        }
+        respawnPipeline.cancel();
+        forgetAll();
+        placements.clear();
 
-        int totalLocations = 0;
-        Map<Chunk, Boolean> chunksToLoad = new HashMap<>();
-
-        // First count valid locations and identify chunks to load
         for (Lootbox lootbox : lootboxes.values()) {
-            List<Location> locations = lootbox.getLocations();
-            if (locations != null && !locations.isEmpty()) {
-                for (Location location : locations) {
-                    if (location != null && location.getWorld() != null) {
-                        totalLocations++;
-                        Chunk chunk = location.getChunk();
-                        chunksToLoad.put(chunk, !chunk.isLoaded());
-                    }
+            for (Location location : lootbox.getLocations()) {
+                if (location != null && location.getWorld() != null) {
+                    placements.add(lootbox.getId(), location);
                 }
             }
         }
+        indexed = true;
+
+        releaseForceLoadedChunks();
 
-        if (totalLocations == 0) {
+        if (placements.size() == 0) {
             Logger.debug("No lootbox locations to respawn");
             return;
         }
 
-        // Load necessary chunks
-        chunksToLoad.forEach((chunk, needsLoading) -> {
-            if (needsLoading) {
-                chunk.load();
+        Logger.debug("Indexed " + placements.size() + " lootbox locations in " + placements.chunkCount() + " chunks");
+        respawnPipeline.start(List.copyOf(placements.chunks()));
+    }
+
+    /**
+     * Sets up the lootboxes of a chunk if it is loaded together with its
+     * entities. Chunks are never loaded for this.
+     *
+     * @param key Chunk to set up
+     */
+    void setupChunk(PlacementIndex.ChunkKey key) {
+        World world = plugin.getServer().getWorld(key.world());
+        if (world == null || !world.isChunkLoaded(key.x(), key.z())) {
+            return;
+        }
+        Chunk chunk = world.getChunkAt(key.x(), key.z());
+        if (chunk.isEntitiesLoaded()) {
+            loadChunk(chunk, Arrays.asList(chunk.getEntities()));
+        }
+    }
+
+    /**
+     * Gets the progress of the entity setup started by the last respawn.
+     *
+     * @return Respawn progress
+     */
+    public RespawnProgress getRespawnProgress() {
+        return new RespawnProgress(respawnPipeline.getDone(), respawnPipeline.getTotal(), respawnPipeline.isRunning());
+    }
+
+    /**
+     * Sets up the lootboxes of a chunk whose entities were loaded. Saved
+     * stands are adopted, stands no placement claims are removed and
+     * placements still without a stand get a new one.
+     *
+     * @param chunk Chunk the entities belong to
+     * @param loaded Entities that were loaded
+     */
+    public void loadChunk(Chunk chunk, List<Entity> loaded) {
+        if (!indexed) {
+            // Lootboxes not loaded yet, respawnEntities picks these up
+            return;
+        }
+
+        List<PlacementIndex.Placement> inChunk = placements.get(chunk);
+        for (Entity entity : loaded) {
+            String lootboxId = LootboxEntity.getTaggedLootboxId(entity);
+            if (lootboxId == null || entities.containsKey(entity.getUniqueId())) {
+                continue;
             }
-            chunk.setForceLoaded(true);
-        });
-
-        // Wait a bit to ensure chunks are loaded
-        int finalTotalLocations = totalLocations;
-        respawnTaskId = plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            // Remove any existing lootbox entities first
-            for (World world : plugin.getServer().getWorlds()) {
-                world.getEntities().stream()
-                        .filter(entity -> entity instanceof ArmorStand
-                        && entity.hasMetadata("LootboxEntity"))
-                        .forEach(Entity::remove);
+
+            Lootbox lootbox = lootboxes.get(lootboxId);
+            PlacementIndex.Placement placement = claim(inChunk, lootboxId, LootboxEntity.getTaggedLocation(entity));
+            if (lootbox == null || placement == null) {
+                // Lootbox or location removed while the chunk was unloaded, or a duplicate
+                entity.remove();
+                Logger.debug("Removed orphaned " + lootboxId + " stand at " + LootboxEntity.locationKey(entity.getLocation()));
+                continue;
             }
+            track(placement, new LootboxEntity(plugin, (ArmorStand) entity, placement.location, lootbox));
+        }
 
-            // Clear existing entities map
-            entities.clear();
-
-            // Spawn new entities
-            int respawnedCount = 0;
-            for (Lootbox lootbox : lootboxes.values()) {
-                for (Location location : lootbox.getLocations()) {
-                    if (location != null && location.getWorld() != null) {
-                        LootboxEntity entity = new LootboxEntity(plugin, location, lootbox);
-                        entities.put(entity.getUniqueId(), entity);
-                        respawnedCount++;
-                    }
-                }
+        for (PlacementIndex.Placement placement : inChunk) {
+            Lootbox lootbox = lootboxes.get(placement.lootboxId);
+            if (placement.entity == null && lootbox != null) {
+                track(placement, new LootboxEntity(plugin, placement.location, lootbox));
             }
+        }
+    }
 
-            Logger.debug("Respawned " + respawnedCount + " lootbox entities (from " + finalTotalLocations + " valid locations)");
-            respawnTaskId = -1;
-        }, 20L).getTaskId(); // Store the task ID
+    /**
+     * Sets up the lootboxes of a chunk that was loaded, in case its entities
+     * were already there. Waits one tick, entities are not added to a chunk
+     * while it is still loading.
+     *
+     * @param chunk Loaded chunk
+     */
+    public void spawnChunk(Chunk chunk) {
+        if (!placements.contains(chunk)) {
+            return;
+        }
+
+        PlacementIndex.ChunkKey key = PlacementIndex.ChunkKey.of(chunk);
+        plugin.getServer().getScheduler().runTask(plugin, () -> setupChunk(key));
+    }
+
+    /**
+     * Stops tracking the lootbox entities of a chunk whose entities are
+     * unloading. The stands are saved with the chunk and adopted again.
+     *
+     * @param chunk Unloading chunk
+     */
+    public void unloadChunk(Chunk chunk) {
+        for (PlacementIndex.Placement placement : placements.get(chunk)) {
+            forget(placement);
+        }
     }
 
     /**
-     * Cleans up all lootbox entities. Called during plugin disable and reload.
+     * Stops tracking all lootbox entities. Called during plugin disable and
+     * reload. The stands stay in the world and are adopted on the next start.
      */
     public void cleanup() {
-        // Cancel any pending respawn task
-        if (respawnTaskId != -1) {
-            plugin.getServer().getScheduler().cancelTask(respawnTaskId);
-            respawnTaskId = -1;
+        respawnPipeline.cancel();
+        forgetAll();
+        placements.clear();
+        indexed = false;
+    }
+
+    private PlacementIndex.Placement claim(List<PlacementIndex.Placement> inChunk, String lootboxId, String locationKey) {
+        for (PlacementIndex.Placement placement : inChunk) {
+            if (placement.entity == null && placement.lootboxId.equals(lootboxId)
+                    && LootboxEntity.locationKey(placement.location).equals(locationKey)) {
+                return placement;
+            }
         }
+        return null;
+    }
+
+    private void track(PlacementIndex.Placement placement, LootboxEntity entity) {
+        entities.put(entity.getUniqueId(), entity);
+        placement.entity = entity;
+    }
 
-        // Remove all entities and unforce chunks
-        for (LootboxEntity entity : entities.values()) {
-            entity.remove();
+    private void forget(PlacementIndex.Placement placement) {
+        if (placement.entity != null) {
+            entities.remove(placement.entity.getUniqueId());
+            placement.entity = null;
         }
+    }
+
+    private void despawn(PlacementIndex.Placement placement) {
+        if (placement.entity != null) {
+            placement.entity.remove();
+            forget(placement);
+        }
+    }
+
+    private void forgetAll() {
         entities.clear();
+        for (PlacementIndex.ChunkKey key : placements.chunks()) {
+            for (PlacementIndex.Placement placement : placements.get(key)) {
+                placement.entity = null;
+            }
+        }
+    }
 
-        // Unforce-load chunks
-        for (Lootbox lootbox : lootboxes.values()) {
-            for (Location location : lootbox.getLocations()) {
-                Chunk chunk = location.getChunk();
-                if (chunk.isForceLoaded()) {
+    /**
+     * Older versions force-loaded every lootbox chunk and only released them
+     * on a clean shutdown, so a crash could leave them loaded for good.
+     */
+    private void releaseForceLoadedChunks() {
+        for (World world : plugin.getServer().getWorlds()) {
+            for (Chunk chunk : world.getForceLoadedChunks()) {
+                if (placements.contains(chunk)) {
                     chunk.setForceLoaded(false);
+                    Logger.debug("Released force-loaded lootbox chunk " + chunk.getX() + ", " + chunk.getZ()
+                            + " in " + world.getName());
                 }
             }
         }
     }
 
     /**
-     * Gets a lootbox entity by its UUID.
+     * Gets a lootbox entity by the UUID of its armor stand.
      *
      * @param entityId Entity UUID
      * @return LootboxEntity instance or null if not found
@@ -870,17 +1023,23 @@ public class LootboxManager {
         // Get the target location the player is looking at
         Location targetLoc = player.getTargetBlock(null, 5).getLocation().add(0.5, 0, 0.5);
 
-        // Check for entities near the target location
-        for (LootboxEntity entity : getAllEntities()) {
-            Location entityLoc = entity.getLocation();
+        // Closest spawned lootbox within 1.5 blocks, only the chunks around the target are searched
+        PlacementIndex.Placement placement = placements.nearest(targetLoc, 1.5, p -> p.entity != null);
+        return placement != null ? placement.entity : null;
+    }
 
-            // Check if locations are close enough (within 1 block)
-            if (entityLoc.getWorld().equals(targetLoc.getWorld())
-                    && entityLoc.distance(targetLoc) <= 1.5) {
-                return entity;
-            }
-        }
-        return null;
+    /**
+     * Gets the spawned entity of a lootbox closest to a location.
+     *
+     * @param lootboxId Lootbox identifier
+     * @param location Location to search around
+     * @param radius Maximum distance in blocks
+     * @return Closest entity, or null if none is spawned in range
+     */
+    public LootboxEntity getNearestEntity(String lootboxId, Location location, double radius) {
+        PlacementIndex.Placement placement = placements.nearest(location, radius,
+                p -> p.entity != null && p.lootboxId.equals(lootboxId));
+        return placement != null ? placement.entity : null;
     }
 
     /**
@@ -893,35 +1052,27 @@ public class LootboxManager {
      */
     public RemoveResult removeLootboxEntity(LootboxEntity entity) {
         // Remove the entity
+        PlacementIndex.Placement placement = placements.find(entity);
+        if (placement != null) {
+            placements.remove(placement);
+        }
         entity.remove();
         entities.remove(entity.getUniqueId());
 
         // Get the lootbox and remove the location
         Lootbox lootbox = getLootbox(entity.getLootboxId());
         if (lootbox != null) {
-            Location loc = entity.getLocation();
+            // The saved location itself, or the one in the stand's block
+            Location loc = placement != null ? placement.location : entity.getBaseLocation();
 
             // Remove location from lootbox data
             lootbox.removeLocation(loc);
 
             // Save the updated lootbox file
-            File file = new File(plugin.getDataFolder(), "lootboxes/" + lootbox.getId() + ".yml");
-            YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
-
-            // Clear existing locations section and create new one if there are remaining locations
-            config.set("locations", null); // This removes the entire locations section
-
-            if (!lootbox.getLocations().isEmpty()) {
-                getEntityPos(lootbox, config);
-            }
-
-            try {
-                config.save(file);
-                Logger.debug("Removed lootbox location from " + lootbox.getId() + " at "
-                        + loc.getWorld().getName() + " " + loc.getX() + " " + loc.getY() + " " + loc.getZ());
-            } catch (IOException e) {
-                Logger.error("Failed to save lootbox after removing location: " + lootbox.getId(), e);
-            }
+            // The file may be behind pending saves, so write the whole lootbox
+            saveLootbox(lootbox);
+            Logger.debug("Removed lootbox location from " + lootbox.getId() + " at "
+                    + loc.getWorld().getName() + " " + loc.getX() + " " + loc.getY() + " " + loc.getZ());
 
             // Create components for success message
             Component displayName = MiniMessage.miniMessage().deserialize(lootbox.getDisplayName());
@@ -944,6 +1095,17 @@ public class LootboxManager {
 
     }
 
+    /**
+     * Progress of the entity setup after a start or reload.
+     *
+     * @param done Chunks processed
+     * @param total Chunks with placements
+     * @param running Whether chunks are still being processed
+     */
+    public record RespawnProgress(int done, int total, boolean running) {
+
+    }
+
     /**
      * Updates entity positions in configuration.
      *
@@ -0,0 +1,271 @@
+package co.RabbitTale.luckyRabbit.lootbox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+
+import co.RabbitTale.luckyRabbit.lootbox.entity.LootboxEntity;
+
+/*
+ * PlacementIndex.java
+ *
+ * Spatial index of placed lootboxes, grouped by the chunk they are in.
+ * Chunk events, target lookups and removals only touch the few
+ * placements of the chunks involved, whatever the total count.
+ *
+ * Features:
+ * - One list per (world, chunkX, chunkZ), unvisited chunks cost nothing
+ * - Block coordinates packed into one long per placement (blockKey)
+ * - Exact block and nearest-within-radius lookups
+ * - Each placement holds the entity tracked for it while its chunk is loaded
+ * - Main thread only
+ */
+final class PlacementIndex {
+
+    private final Map<ChunkKey, List<Placement>> chunks = new HashMap<>();
+    private int size;
+
+    /**
+     * Adds a placement.
+     *
+     * @param lootboxId Lootbox identifier
+     * @param location Saved location, its world must be loaded
+     * @return New placement, without an entity
+     */
+    Placement add(String lootboxId, Location location) {
+        Placement placement = new Placement(lootboxId, location);
+        chunks.computeIfAbsent(ChunkKey.of(location), key -> new ArrayList<>(2)).add(placement);
+        size++;
+        return placement;
+    }
+
+    /**
+     * Removes a placement.
+     *
+     * @param placement Placement to remove
+     */
+    void remove(Placement placement) {
+        ChunkKey key = ChunkKey.of(placement.location);
+        List<Placement> list = chunks.get(key);
+        if (list != null && list.remove(placement)) {
+            size--;
+            if (list.isEmpty()) {
+                chunks.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes the placements of a lootbox at its saved locations.
+     *
+     * @param lootboxId Lootbox identifier
+     * @param locations Saved locations of the lootbox
+     * @return Removed placements
+     */
+    List<Placement> removeLootbox(String lootboxId, List<Location> locations) {
+        List<Placement> removed = new ArrayList<>();
+        for (Location location : locations) {
+            if (location == null || location.getWorld() == null) {
+                continue;
+            }
+            Placement placement = at(location, lootboxId);
+            if (placement != null) {
+                remove(placement);
+                removed.add(placement);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Gets the placement of a lootbox in a block.
+     *
+     * @param location Any location in the block
+     * @param lootboxId Lootbox identifier
+     * @return Placement, or null if the lootbox is not placed there
+     */
+    Placement at(Location location, String lootboxId) {
+        long block = blockKey(location);
+        for (Placement placement : get(ChunkKey.of(location))) {
+            if (placement.block == block && placement.lootboxId.equals(lootboxId)) {
+                return placement;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the placement closest to a location, measured from the bottom
+     * center of its block. Only the chunks the radius reaches are searched.
+     *
+     * @param location Location to search around
+     * @param radius Maximum distance in blocks
+     * @param filter Placements to consider
+     * @return Closest placement, or null if none is in range
+     */
+    Placement nearest(Location location, double radius, Predicate<Placement> filter) {
+        String world = location.getWorld().getName();
+        double x = location.getX();
+        double y = location.getY();
+        double z = location.getZ();
+        int minChunkX = (int) Math.floor(x - radius) >> 4;
+        int maxChunkX = (int) Math.floor(x + radius) >> 4;
+        int minChunkZ = (int) Math.floor(z - radius) >> 4;
+        int maxChunkZ = (int) Math.floor(z + radius) >> 4;
+
+        Placement nearest = null;
+        double nearestSquared = radius * radius;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                for (Placement placement : get(new ChunkKey(world, chunkX, chunkZ))) {
+                    double dx = blockX(placement.block) + 0.5 - x;
+                    double dy = blockY(placement.block) - y;
+                    double dz = blockZ(placement.block) + 0.5 - z;
+                    double distanceSquared = dx * dx + dy * dy + dz * dz;
+                    if (distanceSquared <= nearestSquared && filter.test(placement)) {
+                        nearest = placement;
+                        nearestSquared = distanceSquared;
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Gets the placement an entity was spawned for.
+     *
+     * @param entity Spawned entity
+     * @return Placement, or null if the entity is not tracked
+     */
+    Placement find(LootboxEntity entity) {
+        for (Placement placement : get(ChunkKey.of(entity.getBaseLocation()))) {
+            if (placement.entity == entity) {
+                return placement;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the placements in a chunk.
+     *
+     * @param chunk Chunk to look up
+     * @return Placements, empty if there are none (do not modify)
+     */
+    List<Placement> get(Chunk chunk) {
+        return get(ChunkKey.of(chunk));
+    }
+
+    /**
+     * Gets the placements in a chunk.
+     *
+     * @param key Chunk to look up
+     * @return Placements, empty if there are none (do not modify)
+     */
+    List<Placement> get(ChunkKey key) {
+        List<Placement> list = chunks.get(key);
+        return list != null ? list : Collections.emptyList();
+    }
+
+    /**
+     * Checks if there are placements in a chunk.
+     *
+     * @param chunk Chunk to check
+     * @return true if at least one lootbox is placed there
+     */
+    boolean contains(Chunk chunk) {
+        return chunks.containsKey(ChunkKey.of(chunk));
+    }
+
+    /**
+     * Gets the chunks with placements.
+     *
+     * @return Chunk keys (do not modify)
+     */
+    Set<ChunkKey> chunks() {
+        return chunks.keySet();
+    }
+
+    /**
+     * Gets the number of chunks with placements.
+     *
+     * @return Chunk count
+     */
+    int chunkCount() {
+        return chunks.size();
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        chunks.clear();
+        size = 0;
+    }
+
+    /**
+     * Packs block coordinates into one long: 26 bits X, 26 bits Z, 12 bits Y.
+     *
+     * @param location Any location in the block
+     * @return Packed block coordinates
+     */
+    static long blockKey(Location location) {
+        return blockKey(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    static long blockKey(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    static int blockX(long key) {
+        return (int) (key >> 38);
+    }
+
+    static int blockY(long key) {
+        return (int) (key << 52 >> 52);
+    }
+
+    static int blockZ(long key) {
+        return (int) (key << 26 >> 38);
+    }
+
+    /**
+     * Chunk coordinates within a world.
+     */
+    record ChunkKey(String world, int x, int z) {
+
+        static ChunkKey of(Location location) {
+            return new ChunkKey(location.getWorld().getName(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        }
+
+        static ChunkKey of(Chunk chunk) {
+            return new ChunkKey(chunk.getWorld().getName(), chunk.getX(), chunk.getZ());
+        }
+    }
+
+    /**
+     * One placed lootbox.
+     */
+    static final class Placement {
+
+        final String lootboxId;
+        final Location location;
+        final long block;
+        LootboxEntity entity;
+
+        private Placement(String lootboxId, Location location) {
+            this.lootboxId = lootboxId;
+            this.location = location;
+            this.block = blockKey(location);
+        }
+    }
+}
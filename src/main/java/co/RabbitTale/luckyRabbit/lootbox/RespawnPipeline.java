@@ -0,0 +1,120 @@
+package co.RabbitTale.luckyRabbit.lootbox;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+
+/*
+ * RespawnPipeline.java
+ *
+ * Sets up the lootbox entities of loaded chunks a few chunks per tick
+ * after a start or reload, instead of all of them in one tick.
+ *
+ * Features:
+ * - Chunks are processed in order until the tick budget runs out
+ * - At least one chunk per tick to guarantee progress
+ * - Chunks that unloaded in the meantime are skipped, the chunk events
+ *   set them up when they load again
+ * - Progress logged in debug mode every second and on completion
+ *
+ * Configuration:
+ * - animations.entity-respawn-budget-ms: Max time spent on setting up entities per tick
+ */
+final class RespawnPipeline {
+
+    private static final double DEFAULT_BUDGET_MS = 1.0;
+    private static final int PROGRESS_INTERVAL = 20;
+
+    private final LuckyRabbit plugin;
+    private final LootboxManager manager;
+    private final Deque<PlacementIndex.ChunkKey> queue = new ArrayDeque<>();
+    private BukkitTask task;
+    private long budgetNanos;
+    private int total = 0;
+    private int done = 0;
+    private int ticks = 0;
+    private long busyNanos = 0;
+
+    RespawnPipeline(LuckyRabbit plugin, LootboxManager manager) {
+        this.plugin = plugin;
+        this.manager = manager;
+    }
+
+    /**
+     * Starts setting up the given chunks, replacing a run in progress.
+     *
+     * @param chunks Chunks with placements
+     */
+    void start(Collection<PlacementIndex.ChunkKey> chunks) {
+        cancel();
+
+        double budgetMs = plugin.getConfig().getDouble("animations.entity-respawn-budget-ms", DEFAULT_BUDGET_MS);
+        if (budgetMs <= 0) {
+            Logger.warning("Invalid animations.entity-respawn-budget-ms: " + budgetMs + ", using " + DEFAULT_BUDGET_MS);
+            budgetMs = DEFAULT_BUDGET_MS;
+        }
+        this.budgetNanos = (long) (budgetMs * 1_000_000L);
+
+        queue.addAll(chunks);
+        total = queue.size();
+        done = 0;
+        ticks = 0;
+        busyNanos = 0;
+        if (total > 0) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops the current run. Chunks not reached yet are set up by the chunk events.
+     */
+    void cancel() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        queue.clear();
+    }
+
+    boolean isRunning() {
+        return task != null;
+    }
+
+    int getTotal() {
+        return total;
+    }
+
+    int getDone() {
+        return done;
+    }
+
+    private void tick() {
+        long start = System.nanoTime();
+        int batch = 0;
+        while (!queue.isEmpty()) {
+            if (batch > 0 && System.nanoTime() - start >= budgetNanos) {
+                break;
+            }
+            manager.setupChunk(queue.poll());
+            batch++;
+        }
+        done += batch;
+        ticks++;
+        busyNanos += System.nanoTime() - start;
+
+        if (queue.isEmpty()) {
+            task.cancel();
+            task = null;
+            Logger.debug(String.format("Set up lootbox entities in %d chunks over %d ticks (%.2fms)",
+                    total, ticks, busyNanos / 1_000_000.0));
+        } else if (ticks % PROGRESS_INTERVAL == 0) {
+            Logger.debug("Setting up lootbox entities: " + done + "/" + total + " chunks");
+        }
+    }
+}
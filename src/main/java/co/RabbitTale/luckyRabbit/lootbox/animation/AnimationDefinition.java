@@ -0,0 +1,341 @@
+package co.RabbitTale.luckyRabbit.lootbox.animation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.bukkit.Material;
+import org.bukkit.Sound;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import co.RabbitTale.luckyRabbit.gui.utils.Decorations;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+/*
+ * AnimationDefinition.java
+ *
+ * Opening animation loaded from YAML and compiled into a FrameTable.
+ * One definition per file in the animations folder.
+ *
+ * Structure:
+ * - name / description: Registry name and help text
+ * - size, steps, duration, easing: Layout and timing
+ * - background: Filler material for unused slots
+ * - reels: Slot paths showing reward items (SCROLL or SHUFFLE)
+ * - border: Slots and color palette cycled every frame
+ * - decorations: Static items (arrows, markers)
+ * - sounds: Tick sound with pitch slide, win sounds
+ *
+ * Slot lists accept numbers and ranges ("9-17").
+ * Border slots also accept "rest" for every slot not used otherwise.
+ */
+@Getter
+public final class AnimationDefinition {
+
+    private final String name;
+    private final String description;
+    private final FrameTable frames;
+    private final TickSound tickSound;
+    private final List<SoundEffect> winSounds;
+
+    private AnimationDefinition(String name, String description, FrameTable frames,
+                                TickSound tickSound, List<SoundEffect> winSounds) {
+        this.name = name;
+        this.description = description;
+        this.frames = frames;
+        this.tickSound = tickSound;
+        this.winSounds = winSounds;
+    }
+
+    /**
+     * Creates an animation definition from a configuration file.
+     *
+     * @param config YAML configuration to load from
+     * @return Compiled definition
+     * @throws IllegalArgumentException if the configuration is invalid
+     */
+    public static AnimationDefinition fromConfig(FileConfiguration config) {
+        String name = config.getString("name");
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Missing animation name");
+        }
+
+        int size = config.getInt("size", 27);
+        if (size < 9 || size > 54 || size % 9 != 0) {
+            throw new IllegalArgumentException("Size must be a multiple of 9 between 9 and 54: " + size);
+        }
+
+        int steps = config.getInt("steps", 40);
+        int duration = config.getInt("duration", 100);
+        if (steps <= 0 || duration <= 0) {
+            throw new IllegalArgumentException("Steps and duration must be greater than 0");
+        }
+        Easing easing = parseEnum(Easing.class, config.getString("easing", "QUADRATIC"));
+        String background = config.getString("background");
+
+        // Reels
+        ConfigurationSection reelsSection = config.getConfigurationSection("reels");
+        if (reelsSection == null || reelsSection.getKeys(false).isEmpty()) {
+            throw new IllegalArgumentException("Animation needs at least one reel");
+        }
+        List<FrameTable.Reel> reels = new ArrayList<>();
+        Set<Integer> usedSlots = new LinkedHashSet<>();
+        for (String key : reelsSection.getKeys(false)) {
+            ConfigurationSection reelSection = reelsSection.getConfigurationSection(key);
+            if (reelSection == null) {
+                continue;
+            }
+            int[] slots = parseSlots(reelSection.getList("slots"), size, null);
+            if (slots.length == 0) {
+                throw new IllegalArgumentException("Reel " + key + " has no slots");
+            }
+            FrameTable.Reel reel = new FrameTable.Reel(
+                    parseEnum(FrameTable.ReelType.class, reelSection.getString("type", "SHUFFLE")),
+                    slots,
+                    reelSection.getInt("winning-slot", slots[slots.length / 2]),
+                    reelSection.getBoolean("glow", false),
+                    reelSection.getInt("reveal-steps", 5));
+            reels.add(reel);
+            for (int slot : slots) {
+                usedSlots.add(slot);
+            }
+        }
+
+        // Decorations
+        Map<Integer, ItemStack> decorations = new HashMap<>();
+        ConfigurationSection decorationsSection = config.getConfigurationSection("decorations");
+        if (decorationsSection != null) {
+            for (String key : decorationsSection.getKeys(false)) {
+                ConfigurationSection decoration = decorationsSection.getConfigurationSection(key);
+                if (decoration == null) {
+                    continue;
+                }
+                ItemStack item = createDecoration(decoration);
+                for (int slot : parseSlots(decoration.getList("slots"), size, null)) {
+                    decorations.put(slot, item);
+                    usedSlots.add(slot);
+                }
+            }
+        }
+
+        // Border
+        int[] borderSlots = new int[0];
+        Material[] palette = new Material[0];
+        ConfigurationSection borderSection = config.getConfigurationSection("border");
+        if (borderSection != null) {
+            borderSlots = parseSlots(borderSection.getList("slots"), size, usedSlots);
+            palette = borderSection.getStringList("palette").stream()
+                    .map(AnimationDefinition::parseMaterial)
+                    .toArray(Material[]::new);
+        }
+
+        FrameTable frames = FrameTable.compile(
+                size,
+                easing.delays(steps, duration),
+                background != null ? parseMaterial(background) : null,
+                reels,
+                borderSlots,
+                palette,
+                decorations);
+
+        // Sounds
+        TickSound tickSound = null;
+        ConfigurationSection tickSection = config.getConfigurationSection("sounds.tick");
+        if (tickSection != null) {
+            tickSound = new TickSound(
+                    parseEnum(Sound.class, tickSection.getString("sound")),
+                    (float) tickSection.getDouble("volume", 1.0),
+                    (float) tickSection.getDouble("pitch-start", 1.0),
+                    (float) tickSection.getDouble("pitch-end", 1.0));
+        }
+
+        List<SoundEffect> winSounds = new ArrayList<>();
+        for (Map<?, ?> entry : config.getMapList("sounds.win")) {
+            winSounds.add(new SoundEffect(
+                    parseEnum(Sound.class, String.valueOf(entry.get("sound"))),
+                    toFloat(entry.get("volume")),
+                    toFloat(entry.get("pitch"))));
+        }
+
+        return new AnimationDefinition(name, config.getString("description"), frames, tickSound, List.copyOf(winSounds));
+    }
+
+    /**
+     * Builds a static decoration item.
+     * Plain items without name or lore come from the shared registry.
+     */
+    private static ItemStack createDecoration(ConfigurationSection section) {
+        Material material = parseMaterial(section.getString("material", "BLACK_STAINED_GLASS_PANE"));
+        String displayName = section.getString("name");
+        List<String> lore = section.getStringList("lore");
+        if (displayName == null && lore.isEmpty()) {
+            return Decorations.plain(material);
+        }
+
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            if (displayName != null) {
+                meta.displayName(MiniMessage.miniMessage().deserialize(displayName)
+                        .decoration(TextDecoration.ITALIC, false));
+            }
+            if (!lore.isEmpty()) {
+                List<Component> components = new ArrayList<>();
+                for (String line : lore) {
+                    components.add(MiniMessage.miniMessage().deserialize(line)
+                            .decoration(TextDecoration.ITALIC, false));
+                }
+                meta.lore(components);
+            }
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+
+    /**
+     * Parses a slot list of numbers and "from-to" ranges.
+     *
+     * @param raw Raw YAML list
+     * @param size Inventory size
+     * @param used Slots taken by reels and decorations, enables "rest" (nullable)
+     * @return Slots in listed order
+     */
+    private static int[] parseSlots(List<?> raw, int size, Set<Integer> used) {
+        if (raw == null) {
+            return new int[0];
+        }
+
+        Set<Integer> slots = new LinkedHashSet<>();
+        for (Object entry : raw) {
+            String value = String.valueOf(entry).trim();
+            if (value.equalsIgnoreCase("rest") && used != null) {
+                for (int slot = 0; slot < size; slot++) {
+                    if (!used.contains(slot)) {
+                        slots.add(slot);
+                    }
+                }
+            } else if (value.contains("-")) {
+                String[] range = value.split("-");
+                int from = parseSlot(range[0], size);
+                int to = parseSlot(range[1], size);
+                for (int slot = Math.min(from, to); slot <= Math.max(from, to); slot++) {
+                    slots.add(slot);
+                }
+            } else {
+                slots.add(parseSlot(value, size));
+            }
+        }
+        return slots.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int parseSlot(String value, int size) {
+        int slot;
+        try {
+            slot = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid slot: " + value);
+        }
+        if (slot < 0 || slot >= size) {
+            throw new IllegalArgumentException("Slot " + slot + " is outside the inventory (size " + size + ")");
+        }
+        return slot;
+    }
+
+    private static Material parseMaterial(String name) {
+        Material material = Material.matchMaterial(name);
+        if (material == null) {
+            throw new IllegalArgumentException("Unknown material: " + name);
+        }
+        return material;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Missing " + type.getSimpleName().toLowerCase(Locale.ROOT));
+        }
+        try {
+            return Enum.valueOf(type, name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName().toLowerCase(Locale.ROOT) + ": " + name);
+        }
+    }
+
+    private static float toFloat(Object value) {
+        return value instanceof Number number ? number.floatValue() : 1.0f;
+    }
+
+    /**
+     * Easing curve for frame delays. Frames speed up or slow down
+     * along the curve over the total duration.
+     */
+    public enum Easing {
+        LINEAR,
+        QUADRATIC,
+        CUBIC;
+
+        /**
+         * Applies the curve to a progress value.
+         *
+         * @param t Progress between 0 and 1
+         * @return Eased progress between 0 and 1
+         */
+        public double apply(double t) {
+            return switch (this) {
+                case LINEAR -> t;
+                case QUADRATIC -> t * t;
+                case CUBIC -> t * t * t;
+            };
+        }
+
+        /**
+         * Splits a duration into per-step delays along this curve.
+         *
+         * @param steps Number of steps
+         * @param duration Total duration in ticks
+         * @return Delay after each step (at least 1 tick)
+         */
+        public int[] delays(int steps, int duration) {
+            int[] delays = new int[steps];
+            double previous = 0;
+            for (int i = 1; i <= steps; i++) {
+                double current = duration * apply((double) i / steps);
+                delays[i - 1] = Math.max((int) Math.round(current - previous), 1);
+                previous = current;
+            }
+            return delays;
+        }
+    }
+
+    /**
+     * Sound played every frame, with pitch sliding from start to end.
+     */
+    public record TickSound(Sound sound, float volume, float pitchStart, float pitchEnd) {
+
+        /**
+         * Gets the pitch for a step.
+         *
+         * @param step Current step
+         * @param steps Total steps
+         * @return Interpolated pitch
+         */
+        public float pitchAt(int step, int steps) {
+            return pitchStart + (pitchEnd - pitchStart) * ((float) step / steps);
+        }
+    }
+
+    /**
+     * A single sound with fixed volume and pitch.
+     */
+    public record SoundEffect(Sound sound, float volume, float pitch) {
+    }
+}
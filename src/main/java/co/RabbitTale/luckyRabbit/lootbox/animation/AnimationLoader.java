@@ -0,0 +1,127 @@
+package co.RabbitTale.luckyRabbit.lootbox.animation;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+
+/*
+ * AnimationLoader.java
+ *
+ * Loads animation definitions from the animations folder
+ * and registers them in AnimationType.
+ *
+ * Features:
+ * - Copies the built-in definitions on first start
+ * - Any extra .yml file adds a custom animation
+ * - Broken files are skipped with an error
+ * - Built-ins fall back to the bundled definition if their file is broken
+ * - A reload replaces all definitions, deleted custom files are dropped
+ */
+public class AnimationLoader {
+
+    private static final String[] DEFAULT_ANIMATIONS = {
+        "horizontal.yml", "pin_point.yml", "circle.yml", "cascade.yml", "three_in_row.yml"
+    };
+
+    private final LuckyRabbit plugin;
+
+    /**
+     * Creates a new animation loader.
+     *
+     * @param plugin Plugin instance
+     */
+    public AnimationLoader(LuckyRabbit plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Loads and compiles every animation definition.
+     */
+    public void loadAnimations() {
+        File animationFolder = new File(plugin.getDataFolder(), "animations");
+        if (!animationFolder.exists() && !animationFolder.mkdirs()) {
+            Logger.error("Failed to create animations directory!");
+        }
+
+        // Save built-in definitions from resources if they don't exist
+        for (String fileName : DEFAULT_ANIMATIONS) {
+            if (!new File(animationFolder, fileName).exists()) {
+                try {
+                    plugin.saveResource("animations/" + fileName, false);
+                    Logger.debug("Created " + fileName + " from resources");
+                } catch (IllegalArgumentException e) {
+                    Logger.error("Resource not found: " + fileName);
+                }
+            }
+        }
+
+        List<AnimationDefinition> definitions = new ArrayList<>();
+        Set<String> loaded = new HashSet<>();
+        File[] files = animationFolder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files != null) {
+            for (File file : files) {
+                try {
+                    AnimationDefinition definition = AnimationDefinition.fromConfig(YamlConfiguration.loadConfiguration(file));
+                    definitions.add(definition);
+                    loaded.add(definition.getName().toUpperCase(Locale.ROOT));
+                    Logger.debug("Loaded animation: " + definition.getName());
+                } catch (Exception e) {
+                    Logger.error("Failed to load animation from " + file.getName() + ": " + e.getMessage());
+                }
+            }
+        }
+
+        // Built-ins must always be playable
+        for (String fileName : DEFAULT_ANIMATIONS) {
+            String name = fileName.replace(".yml", "").toUpperCase(Locale.ROOT);
+            if (!loaded.contains(name)) {
+                AnimationDefinition bundled = loadBundled(fileName);
+                if (bundled != null) {
+                    definitions.add(bundled);
+                }
+            }
+        }
+
+        // Replaces what the last load registered, removed files disappear
+        AnimationType.load(definitions);
+
+        Logger.debug("Total animations loaded: " + AnimationType.values().stream()
+                .filter(type -> type.getDefinition() != null)
+                .count());
+    }
+
+    /**
+     * Reads the bundled definition of a built-in animation,
+     * used when no valid file provided one.
+     *
+     * @param fileName Resource file name
+     * @return Bundled definition, or null if it can't be read
+     */
+    private AnimationDefinition loadBundled(String fileName) {
+        try (InputStream stream = plugin.getResource("animations/" + fileName)) {
+            if (stream == null) {
+                Logger.error("Bundled animation missing: " + fileName);
+                return null;
+            }
+            YamlConfiguration config = YamlConfiguration.loadConfiguration(
+                    new InputStreamReader(stream, StandardCharsets.UTF_8));
+            AnimationDefinition definition = AnimationDefinition.fromConfig(config);
+            Logger.warning("Using bundled " + fileName + " animation, check your animations folder");
+            return definition;
+        } catch (Exception e) {
+            Logger.error("Failed to load bundled animation " + fileName + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,47 +1,162 @@
 package co.RabbitTale.luckyRabbit.lootbox.animation;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import lombok.AccessLevel;
 import lombok.Getter;
 
+/*
+ * AnimationType.java
+ *
+ * Registry of lootbox opening animations.
+ * Built-in types are constants, custom types are registered
+ * from YAML definitions in the animations folder.
+ *
+ * Built-in types:
+ * - HORIZONTAL: Free version default
+ * - PIN_POINT, CIRCLE, CASCADE, THREE_IN_ROW: Premium only
+ *
+ * Custom types are always premium. A reload replaces all definitions,
+ * custom types whose file is gone are removed.
+ * Mirrors the old enum API (name, valueOf, values) so existing
+ * lootbox files and commands keep working.
+ */
 @Getter
-public enum AnimationType {
+public final class AnimationType {
+
+    private static final Map<String, AnimationType> REGISTRY = new LinkedHashMap<>();
+
     /**
      * Classic horizontal spinning animation.
      * Default animation for free version.
      */
-    HORIZONTAL("Classic horizontal spinning animation"),
+    public static final AnimationType HORIZONTAL = builtIn("HORIZONTAL", "Classic horizontal spinning animation", false);
 
     /**
      * Items appear one by one in a fixed spot.
      * Premium only.
      */
-    PIN_POINT("Items appear one by one in a fixed spot"),
+    public static final AnimationType PIN_POINT = builtIn("PIN_POINT", "Items appear one by one in a fixed spot", true);
 
     /**
      * Items spin in a circle pattern.
      * Premium only.
      */
-    CIRCLE("Items spin in a circle pattern"),
+    public static final AnimationType CIRCLE = builtIn("CIRCLE", "Items spin in a circle pattern", true);
 
     /**
      * Items cascade across the screen.
      * Premium only.
      */
-    CASCADE("Items cascade across the screen"),
+    public static final AnimationType CASCADE = builtIn("CASCADE", "Items cascade across the screen", true);
 
     /**
      * Three items spinning in a row.
      * Premium only.
      */
-    THREE_IN_ROW("Three items spinning in a row");
+    public static final AnimationType THREE_IN_ROW = builtIn("THREE_IN_ROW", "Three items spinning in a row", true);
 
-    private final String description;
+    private final String name;
+    private final boolean premium;
+    private final boolean builtIn;
+    @Getter(AccessLevel.NONE)
+    private final String defaultDescription;
+    private volatile String description;
+    private volatile AnimationDefinition definition;
 
     /**
      * Creates a new animation type.
      *
+     * @param name Unique upper-case name
      * @param description Human-readable description
+     * @param premium Whether the type requires premium
+     * @param builtIn Whether the type is one of the constants
      */
-    AnimationType(String description) {
+    private AnimationType(String name, String description, boolean premium, boolean builtIn) {
+        this.name = name;
         this.description = description;
+        this.defaultDescription = description;
+        this.premium = premium;
+        this.builtIn = builtIn;
+    }
+
+    private static AnimationType builtIn(String name, String description, boolean premium) {
+        AnimationType type = new AnimationType(name, description, premium, true);
+        REGISTRY.put(name, type);
+        return type;
+    }
+
+    /**
+     * Registers a compiled definition. Attaches it to the matching built-in
+     * type, or creates a new premium type for custom animations.
+     *
+     * @param definition Compiled animation definition
+     * @return Type the definition was attached to
+     */
+    public static synchronized AnimationType register(AnimationDefinition definition) {
+        String key = definition.getName().toUpperCase(Locale.ROOT);
+        AnimationType type = REGISTRY.computeIfAbsent(key,
+                name -> new AnimationType(name, definition.getDescription(), true, false));
+        if (definition.getDescription() != null) {
+            type.description = definition.getDescription();
+        }
+        type.definition = definition;
+        return type;
+    }
+
+    /**
+     * Replaces every loaded definition in one step. Custom types not in the
+     * list are removed, built-ins not in the list are left without a definition.
+     *
+     * @param definitions Compiled definitions, later ones win on duplicate names
+     */
+    public static synchronized void load(List<AnimationDefinition> definitions) {
+        REGISTRY.values().removeIf(type -> !type.builtIn);
+        for (AnimationType type : REGISTRY.values()) {
+            type.definition = null;
+            type.description = type.defaultDescription;
+        }
+        definitions.forEach(AnimationType::register);
+    }
+
+    /**
+     * Gets a registered type by name (case-insensitive).
+     *
+     * @param name Type name
+     * @return Matching type
+     * @throws IllegalArgumentException if no such type is registered
+     */
+    public static synchronized AnimationType valueOf(String name) {
+        AnimationType type = name != null ? REGISTRY.get(name.toUpperCase(Locale.ROOT)) : null;
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown animation type: " + name);
+        }
+        return type;
+    }
+
+    /**
+     * Gets all registered types, built-ins first.
+     *
+     * @return Snapshot of all types
+     */
+    public static synchronized List<AnimationType> values() {
+        return List.copyOf(REGISTRY.values());
+    }
+
+    /**
+     * Gets the name of this type, as stored in lootbox files.
+     *
+     * @return Upper-case type name
+     */
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
     }
 }
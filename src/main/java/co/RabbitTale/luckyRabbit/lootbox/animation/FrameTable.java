@@ -0,0 +1,254 @@
+package co.RabbitTale.luckyRabbit.lootbox.animation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import co.RabbitTale.luckyRabbit.gui.utils.Decorations;
+
+/*
+ * FrameTable.java
+ *
+ * Immutable, precompiled frames of an opening animation.
+ * Everything that doesn't depend on the rolled rewards (layout, border
+ * colors, decorations, reel positions, delays) is resolved once at load,
+ * so replaying a frame is a plain loop over slot writes.
+ *
+ * Per frame:
+ * - Static writes: slots whose decoration changed since the previous frame
+ * - Reel writes: slots showing reward items, as references
+ *
+ * Reel references:
+ * - >= 0: Index into the per-opening scroll sequence
+ * - RANDOM: Any random reward item
+ * - FINAL: The reward that was won
+ *
+ * Reel types:
+ * - SCROLL: Items move along the slot path, winner stops on the winning slot
+ * - SHUFFLE: Every slot shows a random item, winner revealed in the last steps
+ */
+public final class FrameTable {
+
+    public static final int RANDOM = -1;
+    public static final int FINAL = -2;
+
+    private final int size;
+    private final ItemStack[] initial;
+    private final Frame[] frames;
+    private final int[] delays;
+    private final int sequenceLength;
+
+    private FrameTable(int size, ItemStack[] initial, Frame[] frames, int[] delays, int sequenceLength) {
+        this.size = size;
+        this.initial = initial;
+        this.frames = frames;
+        this.delays = delays;
+        this.sequenceLength = sequenceLength;
+    }
+
+    /**
+     * Compiles the frames of an animation.
+     *
+     * @param size Inventory size
+     * @param delays Delay after each frame in ticks (one per step)
+     * @param background Filler for slots not used by reels (nullable)
+     * @param reels Reel layouts
+     * @param borderSlots Slots of the animated border
+     * @param palette Border colors cycled every frame (empty for no border)
+     * @param decorations Static items per slot
+     * @return Compiled frame table
+     */
+    public static FrameTable compile(int size, int[] delays, Material background, List<Reel> reels,
+                                     int[] borderSlots, Material[] palette, Map<Integer, ItemStack> decorations) {
+        int steps = delays.length;
+        boolean[] reelSlot = new boolean[size];
+        for (Reel reel : reels) {
+            for (int slot : reel.slots()) {
+                reelSlot[slot] = true;
+            }
+        }
+
+        // Starting contents: background, then fixed decorations
+        ItemStack[] initial = new ItemStack[size];
+        if (background != null) {
+            ItemStack filler = Decorations.plain(background);
+            for (int slot = 0; slot < size; slot++) {
+                if (!reelSlot[slot]) {
+                    initial[slot] = filler;
+                }
+            }
+        }
+        decorations.forEach((slot, item) -> initial[slot] = item);
+
+        // Border slots never override reels or decorations
+        int[] border = Arrays.stream(borderSlots)
+                .filter(slot -> !reelSlot[slot] && !decorations.containsKey(slot))
+                .distinct()
+                .toArray();
+
+        // Scroll reels share one sequence, each with its own offset
+        int[] offsets = new int[reels.size()];
+        int sequenceLength = 0;
+        for (int i = 0; i < reels.size(); i++) {
+            if (reels.get(i).type() == ReelType.SCROLL) {
+                offsets[i] = sequenceLength;
+                sequenceLength += steps + reels.get(i).slots().length - 1;
+            }
+        }
+
+        ItemStack[] state = initial.clone();
+        Frame[] frames = new Frame[steps];
+        for (int step = 0; step < steps; step++) {
+            List<Integer> staticSlots = new ArrayList<>();
+            List<ItemStack> staticItems = new ArrayList<>();
+            if (palette.length > 0) {
+                for (int slot : border) {
+                    ItemStack pane = Decorations.pane(palette[(step + 1 + slot) % palette.length]);
+                    if (state[slot] != pane) {
+                        state[slot] = pane;
+                        staticSlots.add(slot);
+                        staticItems.add(pane);
+                    }
+                }
+            }
+
+            List<int[]> reelWrites = new ArrayList<>();
+            for (int i = 0; i < reels.size(); i++) {
+                compileReel(reels.get(i), offsets[i], step, steps, reelWrites);
+            }
+
+            int[] reelSlots = new int[reelWrites.size()];
+            int[] reelRefs = new int[reelWrites.size()];
+            boolean[] reelGlow = new boolean[reelWrites.size()];
+            for (int i = 0; i < reelWrites.size(); i++) {
+                reelSlots[i] = reelWrites.get(i)[0];
+                reelRefs[i] = reelWrites.get(i)[1];
+                reelGlow[i] = reelWrites.get(i)[2] == 1;
+            }
+
+            frames[step] = new Frame(
+                    staticSlots.stream().mapToInt(Integer::intValue).toArray(),
+                    staticItems.toArray(new ItemStack[0]),
+                    reelSlots, reelRefs, reelGlow);
+        }
+
+        return new FrameTable(size, initial, frames, delays.clone(), sequenceLength);
+    }
+
+    /**
+     * Adds the writes of one reel for one step as {slot, reference, glow}.
+     */
+    private static void compileReel(Reel reel, int offset, int step, int steps, List<int[]> writes) {
+        int[] slots = reel.slots();
+        if (reel.type() == ReelType.SCROLL) {
+            int winningPosition = indexOf(slots, reel.winningSlot());
+            int finalIndex = offset + (steps - 1) + winningPosition;
+            for (int position = 0; position < slots.length; position++) {
+                int index = offset + step + position;
+                boolean glow = reel.glow() && slots[position] == reel.winningSlot();
+                writes.add(new int[]{slots[position], index == finalIndex ? FINAL : index, glow ? 1 : 0});
+            }
+        } else {
+            boolean revealed = step >= steps - reel.revealSteps();
+            for (int slot : slots) {
+                boolean winning = slot == reel.winningSlot();
+                int ref = winning && revealed ? FINAL : RANDOM;
+                writes.add(new int[]{slot, ref, reel.glow() && winning ? 1 : 0});
+            }
+        }
+    }
+
+    private static int indexOf(int[] slots, int slot) {
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] == slot) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Winning slot " + slot + " is not part of its reel");
+    }
+
+    /**
+     * Gets the inventory size.
+     *
+     * @return Slot count
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the starting item of a slot. Shared - never modify it.
+     *
+     * @param slot Slot to read
+     * @return Initial item or null if empty
+     */
+    public ItemStack getInitial(int slot) {
+        return initial[slot];
+    }
+
+    /**
+     * Gets a compiled frame.
+     *
+     * @param step Step index
+     * @return Frame for that step
+     */
+    public Frame getFrame(int step) {
+        return frames[step];
+    }
+
+    /**
+     * Gets the delay after a frame.
+     *
+     * @param step Step index
+     * @return Delay in ticks
+     */
+    public int getDelay(int step) {
+        return delays[step];
+    }
+
+    /**
+     * Gets the number of frames.
+     *
+     * @return Step count
+     */
+    public int getSteps() {
+        return frames.length;
+    }
+
+    /**
+     * Gets the length of the per-opening scroll sequence.
+     *
+     * @return Sequence length (0 without scroll reels)
+     */
+    public int getSequenceLength() {
+        return sequenceLength;
+    }
+
+    /**
+     * Compiled writes of one frame. Arrays must not be modified.
+     */
+    public record Frame(int[] staticSlots, ItemStack[] staticItems,
+                        int[] reelSlots, int[] reelRefs, boolean[] reelGlow) {
+    }
+
+    /**
+     * Layout of one reel.
+     *
+     * @param type How items move through the slots
+     * @param slots Slot path, in scroll order
+     * @param winningSlot Slot the won reward ends on
+     * @param glow Whether the winning slot glows
+     * @param revealSteps Final steps showing the winner (SHUFFLE only)
+     */
+    public record Reel(ReelType type, int[] slots, int winningSlot, boolean glow, int revealSteps) {
+    }
+
+    public enum ReelType {
+        SCROLL,
+        SHUFFLE
+    }
+}
@@ -4,15 +4,15 @@ import java.util.UUID;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.Particle;
 import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
-import org.bukkit.entity.Player;
 import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.util.EulerAngle;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
@@ -22,37 +22,81 @@ import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 
+/*
+ * LootboxEntity.java
+ *
+ * Armor stand showing a placed lootbox.
+ *
+ * Identity:
+ * - The stand is tagged in its PersistentDataContainer with the lootbox ID
+ *   and the block it was placed on, and is saved with its chunk
+ * - When the chunk loads again the LootboxManager adopts the saved stand
+ *   instead of spawning a new one
+ * - The unique ID is the Bukkit entity UUID
+ */
 public class LootboxEntity {
 
+    private static final NamespacedKey LOOTBOX_KEY = NamespacedKey.fromString("luckyrabbit:lootbox");
+    private static final NamespacedKey LOCATION_KEY = NamespacedKey.fromString("luckyrabbit:location");
+
     private final LuckyRabbit plugin;
     private final ArmorStand armorStand;
     @Getter
     private final String lootboxId;
     @Getter
     private final UUID uniqueId;
+    @Getter
+    private final int phase;
+    private final Location baseLocation;
     private double time = 0;
-    private BukkitTask animationTask;
-    private BukkitTask particleTask;
-    private boolean isAnimating = false;
+    private double particleTime = 0;
+    private double lastY;
+    private boolean viewed = true;
     private static final double HOVER_HEIGHT = 0.15;
     private static final double ROTATION_SPEED = 0.05;
-
+    private static final double PARTICLE_SPEED = 0.075;
+    private static int nextPhase = 0;
+
+    /**
+     * Spawns a new stand for a placed lootbox.
+     *
+     * @param plugin Plugin instance
+     * @param location Placement location
+     * @param lootbox Placed lootbox
+     */
     public LootboxEntity(LuckyRabbit plugin, Location location, Lootbox lootbox) {
+        this(plugin, (ArmorStand) location.getWorld().spawnEntity(center(location), EntityType.ARMOR_STAND),
+                location, lootbox);
+    }
+
+    /**
+     * Adopts a stand saved with its chunk. Name and equipment are set up
+     * again, so changes to the lootbox made in the meantime show up.
+     *
+     * @param plugin Plugin instance
+     * @param armorStand Tagged stand found in the world
+     * @param location Placement location
+     * @param lootbox Placed lootbox
+     */
+    public LootboxEntity(LuckyRabbit plugin, ArmorStand armorStand, Location location, Lootbox lootbox) {
         this.plugin = plugin;
         this.lootboxId = lootbox.getId();
-        this.uniqueId = UUID.randomUUID();
-
-        // Center the location
-        location = location.getBlock().getLocation().add(0.5, 0, 0.5);
-
-        // Create armor stand
-        this.armorStand = (ArmorStand) location.getWorld().spawnEntity(location, EntityType.ARMOR_STAND);
-        setupArmorStand(lootbox);
-        startAnimation();
-        startParticleEffects();
+        this.armorStand = armorStand;
+        this.uniqueId = armorStand.getUniqueId();
+
+        // Motion and particles are driven by the shared LootboxEntityTicker
+        this.baseLocation = center(location);
+        this.lastY = baseLocation.getY();
+        this.phase = nextPhase++;
+
+        setupArmorStand(lootbox, locationKey(location));
+        if (!armorStand.getLocation().equals(baseLocation)) {
+            // Saved mid-hover
+            armorStand.teleport(baseLocation);
+        }
     }
 
-    private void setupArmorStand(Lootbox lootbox) {
+    private void setupArmorStand(Lootbox lootbox, String locationKey) {
         // Basic setup
         armorStand.setVisible(false);
         armorStand.setGravity(false);
@@ -82,157 +126,178 @@ public class LootboxEntity {
         // Lock equipment
         armorStand.addEquipmentLock(EquipmentSlot.HEAD, ArmorStand.LockType.REMOVING_OR_CHANGING);
 
-        // Clear any existing metadata first
-        if (armorStand.hasMetadata("LootboxEntity")) {
-            armorStand.removeMetadata("LootboxEntity", plugin);
-        }
-
-        // Store both the lootbox ID and entity UUID in metadata
-        armorStand.setMetadata("LootboxEntity", new FixedMetadataValue(plugin, lootboxId));
-        armorStand.setMetadata("LootboxEntityUUID", new FixedMetadataValue(plugin, uniqueId.toString()));
+        // Tag the stand, the tags are saved with the chunk
+        PersistentDataContainer data = armorStand.getPersistentDataContainer();
+        data.set(LOOTBOX_KEY, PersistentDataType.STRING, lootboxId);
+        data.set(LOCATION_KEY, PersistentDataType.STRING, locationKey);
 
-        Logger.debug("Set metadata for lootbox: " + lootboxId + " with UUID: " + uniqueId);
+        if (Logger.isDebugEnabled()) {
+            Logger.debug("Tagged lootbox stand " + uniqueId + " as " + lootboxId + " at " + locationKey);
+        }
     }
 
-    private void startAnimation() {
-        if (isAnimating || armorStand.isDead() || !armorStand.isValid()) {
-            return;
+    /**
+     * Gets the lootbox an entity was tagged with.
+     *
+     * @param entity Entity to check
+     * @return Lootbox ID, or null if the entity is not a lootbox stand
+     */
+    public static String getTaggedLootboxId(Entity entity) {
+        if (!(entity instanceof ArmorStand)) {
+            return null;
         }
+        return entity.getPersistentDataContainer().get(LOOTBOX_KEY, PersistentDataType.STRING);
+    }
 
-        if (animationTask != null) {
-            animationTask.cancel();
+    /**
+     * Gets the placement block an entity was tagged with.
+     *
+     * @param entity Entity to check
+     * @return Location key, or null if the entity is not a lootbox stand
+     */
+    public static String getTaggedLocation(Entity entity) {
+        if (!(entity instanceof ArmorStand)) {
+            return null;
         }
+        return entity.getPersistentDataContainer().get(LOCATION_KEY, PersistentDataType.STRING);
+    }
+
+    /**
+     * Gets the key a placement is tagged with, its block coordinates.
+     *
+     * @param location Placement location
+     * @return Location key ("x,y,z")
+     */
+    public static String locationKey(Location location) {
+        return location.getBlockX() + "," + location.getBlockY() + "," + location.getBlockZ();
+    }
 
-        Location baseLocation = armorStand.getLocation().clone();
-        time = 0;
+    private static Location center(Location location) {
+        return new Location(location.getWorld(), location.getBlockX() + 0.5, location.getBlockY(),
+                location.getBlockZ() + 0.5);
+    }
 
-        animationTask = new BukkitRunnable() {
-            private double lastY = baseLocation.getY();
+    /**
+     * Moves the stand one step of its hover and rotation.
+     * Called every tick by the LootboxEntityTicker while a player is near.
+     */
+    void tickMotion() {
+        time += ROTATION_SPEED;
+        double y = baseLocation.getY() + Math.sin(time) * HOVER_HEIGHT;
+
+        // Only update if position changed significantly
+        if (Math.abs(y - lastY) > 0.001) {
+            Location newLoc = baseLocation.clone();
+            newLoc.setY(y);
+            armorStand.teleport(newLoc);
+            lastY = y;
+        }
 
-            @Override
-            public void run() {
-                if (armorStand.isDead() || !armorStand.isValid()) {
-                    this.cancel();
-                    isAnimating = false;
-                    return;
-                }
+        // Update rotation
+        armorStand.setHeadPose(new EulerAngle(0, time, 0));
+    }
 
-                // Update animation
-                time += ROTATION_SPEED;
-                double yOffset = Math.sin(time) * HOVER_HEIGHT;
+    /**
+     * Spawns one round of the particle ring.
+     * Called by the LootboxEntityTicker every particle interval while a player is near.
+     *
+     * @param interval Ticks since the last call, keeps the ring speed independent of it
+     */
+    void tickParticles(int interval) {
+        particleTime += PARTICLE_SPEED * interval;
+        Location loc = baseLocation.clone().add(0, lastY - baseLocation.getY() + 1.2, 0);
+
+        //TODO: add option to choose from preset animations (get from lootbox_id.yml (particle)
+        // Create perfect circle with more points
+        double radius = 0.4;
+        int points = 4;
+        for (int i = 0; i < points; i++) {
+            double angle = particleTime + ((2 * Math.PI * i) / points);
+            double x = Math.cos(angle) * radius;
+            double z = Math.sin(angle) * radius;
+
+            // Spawn main circle particles
+            Location particleLoc = loc.clone().add(x, 0, z);
+            armorStand.getWorld().spawnParticle(
+                    Particle.END_ROD,
+                    particleLoc,
+                    1,
+                    0, 0, 0,
+                    0
+            );
+
+            // Add trailing effect
+            double trailRadius = radius * 0.8;
+            double trailX = Math.cos(angle - 0.5) * trailRadius;
+            double trailZ = Math.sin(angle - 0.5) * trailRadius;
+            Location trailLoc = loc.clone().add(trailX, -0.1, trailZ);
+            armorStand.getWorld().spawnParticle(
+                    Particle.SPELL_INSTANT,
+                    trailLoc,
+                    1,
+                    0, 0, 0,
+                    0
+            );
+        }
 
-                // Update position
-                Location newLoc = baseLocation.clone();
-                newLoc.setY(baseLocation.getY() + yOffset);
+        // Occasional sparkle effect
+        if (Math.random() < 0.2) {
+            double randomAngle = Math.random() * 2 * Math.PI;
+            double randomRadius = Math.random() * radius;
+            double sparkleX = Math.cos(randomAngle) * randomRadius;
+            double sparkleY = Math.random() * 0.3;
+            double sparkleZ = Math.sin(randomAngle) * randomRadius;
+
+            armorStand.getWorld().spawnParticle(
+                    Particle.SPELL_INSTANT,
+                    loc.clone().add(sparkleX, sparkleY, sparkleZ),
+                    1,
+                    0, 0, 0,
+                    0
+            );
+        }
+    }
 
-                // Only update if position changed significantly
-                if (Math.abs(newLoc.getY() - lastY) > 0.001) {
-                    armorStand.teleport(newLoc);
-                    lastY = newLoc.getY();
-                }
+    /**
+     * Checks if a player was near at the last culling check.
+     *
+     * @return true if the entity is animated
+     */
+    public boolean isViewed() {
+        return viewed;
+    }
 
-                // Update rotation
-                armorStand.setHeadPose(new EulerAngle(0, time, 0));
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+    void setViewed(boolean viewed) {
+        this.viewed = viewed;
+    }
 
-        isAnimating = true;
+    /**
+     * Checks if the armor stand still exists.
+     *
+     * @return true if the stand is alive and loaded
+     */
+    boolean isValid() {
+        return !armorStand.isDead() && armorStand.isValid();
     }
 
-    private void startParticleEffects() {
-        particleTask = new BukkitRunnable() {
-            private double particleTime = 0;
-
-            @Override
-            public void run() {
-                if (armorStand.isDead() || !armorStand.isValid()) {
-                    this.cancel();
-                    return;
-                }
-
-                particleTime += 0.15;
-                Location loc = armorStand.getLocation().add(0, 1.2, 0);
-
-                //TODO: add option to choose from preset animations (get from lootbox_id.yml (particle)
-                // Create perfect circle with more points
-                double radius = 0.4;
-                int points = 4;
-                for (int i = 0; i < points; i++) {
-                    double angle = particleTime + ((2 * Math.PI * i) / points);
-                    double x = Math.cos(angle) * radius;
-                    double z = Math.sin(angle) * radius;
-
-                    // Spawn main circle particles
-                    Location particleLoc = loc.clone().add(x, 0, z);
-                    armorStand.getWorld().spawnParticle(
-                            Particle.END_ROD,
-                            particleLoc,
-                            1,
-                            0, 0, 0,
-                            0
-                    );
-
-                    // Add trailing effect
-                    double trailRadius = radius * 0.8;
-                    double trailX = Math.cos(angle - 0.5) * trailRadius;
-                    double trailZ = Math.sin(angle - 0.5) * trailRadius;
-                    Location trailLoc = loc.clone().add(trailX, -0.1, trailZ);
-                    armorStand.getWorld().spawnParticle(
-                            Particle.SPELL_INSTANT,
-                            trailLoc,
-                            1,
-                            0, 0, 0,
-                            0
-                    );
-                }
-
-                // Occasional sparkle effect
-                if (Math.random() < 0.2) {
-                    double randomAngle = Math.random() * 2 * Math.PI;
-                    double randomRadius = Math.random() * radius;
-                    double sparkleX = Math.cos(randomAngle) * randomRadius;
-                    double sparkleY = Math.random() * 0.3;
-                    double sparkleZ = Math.sin(randomAngle) * randomRadius;
-
-                    armorStand.getWorld().spawnParticle(
-                            Particle.SPELL_INSTANT,
-                            loc.clone().add(sparkleX, sparkleY, sparkleZ),
-                            1,
-                            0, 0, 0,
-                            0
-                    );
-                }
-            }
-        }.runTaskTimer(plugin, 0L, 2L);
+    /**
+     * Gets the resting position of the stand (block center, without hover offset).
+     *
+     * @return Base location (do not modify)
+     */
+    public Location getBaseLocation() {
+        return baseLocation;
     }
 
+    /**
+     * Removes the stand from the world.
+     */
     public void remove() {
-        if (animationTask != null) {
-            animationTask.cancel();
-        }
-        if (particleTask != null) {
-            particleTask.cancel();
-        }
         if (!armorStand.isDead()) {
             armorStand.remove();
         }
     }
 
-    public void show(Player player) {
-        // Get lootbox ID from the armorstand's metadata
-        String lootboxId = armorStand.getMetadata("LootboxEntity").get(0).asString();
-
-        // Always show for admins, hide for non-admins if it's an example lootbox
-        if (plugin.getLootboxManager().isExampleLootbox(lootboxId) && !player.hasPermission("luckyrabbit.admin")) {
-            armorStand.setCustomNameVisible(false);
-            armorStand.setVisible(false);
-        } else {
-            // Show for admins and non-example lootboxes
-            armorStand.setCustomNameVisible(true);
-            armorStand.setVisible(true);
-        }
-    }
-
     public Location getLocation() {
         return armorStand.getLocation();
     }
@@ -0,0 +1,173 @@
+package co.RabbitTale.luckyRabbit.lootbox.entity;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+
+/*
+ * LootboxEntityTicker.java
+ *
+ * Central ticker for the hover, rotation and particles of placed lootboxes.
+ * Replaces two scheduler tasks per entity with a single repeating task.
+ *
+ * Features:
+ * - One 1-tick repeating task for every placed lootbox
+ * - Entities without a player in view range are skipped entirely
+ * - Viewer checks and particle rounds spread over ticks by entity phase
+ * - Per-tick timing, reported in debug mode once a minute
+ *
+ * Configuration:
+ * - animations.entity-view-distance: Blocks a player can be away for an entity to animate
+ * - animations.particle-update-interval: Ticks between particle rounds of one entity
+ * - animations.particles.enabled: Turns the particle ring off
+ */
+public class LootboxEntityTicker {
+
+    private static final int DEFAULT_VIEW_DISTANCE = 48;
+    private static final int DEFAULT_PARTICLE_INTERVAL = 2;
+    private static final int CULL_INTERVAL = 10;
+    private static final long REPORT_INTERVAL = 20L * 60;
+
+    private final LuckyRabbit plugin;
+    private BukkitTask task;
+    private long currentTick = 0;
+    private double viewDistanceSquared;
+    private int particleInterval;
+    private boolean particles;
+
+    // Timing of the current report window
+    private long windowTicks = 0;
+    private long windowNanos = 0;
+    private long windowMaxNanos = 0;
+    private long lastNanos = 0;
+    private int lastActive = 0;
+    private int lastCulled = 0;
+
+    /**
+     * Creates a new entity ticker.
+     *
+     * @param plugin Plugin instance
+     */
+    public LootboxEntityTicker(LuckyRabbit plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts the ticker. Reads view distance and particle settings from config.
+     */
+    public void start() {
+        if (task != null) {
+            return;
+        }
+
+        int viewDistance = plugin.getConfig().getInt("animations.entity-view-distance", DEFAULT_VIEW_DISTANCE);
+        if (viewDistance <= 0) {
+            Logger.warning("Invalid animations.entity-view-distance: " + viewDistance + ", using " + DEFAULT_VIEW_DISTANCE);
+            viewDistance = DEFAULT_VIEW_DISTANCE;
+        }
+        this.viewDistanceSquared = (double) viewDistance * viewDistance;
+        this.particleInterval = Math.max(1,
+                plugin.getConfig().getInt("animations.particle-update-interval", DEFAULT_PARTICLE_INTERVAL));
+        this.particles = plugin.getConfig().getBoolean("animations.particles.enabled", true);
+
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        Logger.debug("Lootbox entity ticker started, view distance " + viewDistance
+                + ", particles every " + particleInterval + " ticks");
+    }
+
+    /**
+     * Stops the ticker. Entities stay where they are.
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Gets the timing of the last tick and the current report window.
+     *
+     * @return Timing report
+     */
+    public Report getReport() {
+        double average = windowTicks == 0 ? 0 : windowNanos / (double) windowTicks / 1_000_000.0;
+        return new Report(lastActive, lastCulled, lastNanos / 1_000_000.0, average, windowMaxNanos / 1_000_000.0);
+    }
+
+    /**
+     * Animates every viewed entity. An entity re-checks its viewers every
+     * CULL_INTERVAL ticks and spawns particles every particleInterval ticks,
+     * each on its own phase so the work is spread evenly.
+     */
+    private void tick() {
+        long start = System.nanoTime();
+        currentTick++;
+        int active = 0;
+        int culled = 0;
+
+        for (LootboxEntity entity : plugin.getLootboxManager().getAllEntities()) {
+            if (!entity.isValid()) {
+                continue;
+            }
+
+            long phased = currentTick + entity.getPhase();
+            if (Math.floorMod(phased, CULL_INTERVAL) == 0) {
+                entity.setViewed(hasViewer(entity.getBaseLocation()));
+            }
+            if (!entity.isViewed()) {
+                culled++;
+                continue;
+            }
+
+            active++;
+            entity.tickMotion();
+            if (particles && Math.floorMod(phased, particleInterval) == 0) {
+                entity.tickParticles(particleInterval);
+            }
+        }
+
+        lastNanos = System.nanoTime() - start;
+        lastActive = active;
+        lastCulled = culled;
+        windowTicks++;
+        windowNanos += lastNanos;
+        windowMaxNanos = Math.max(windowMaxNanos, lastNanos);
+
+        if (windowTicks >= REPORT_INTERVAL) {
+            if (Logger.isDebugEnabled()) {
+                Report report = getReport();
+                Logger.debug(String.format("Lootbox entities: %d animated, %d culled, %.3fms avg / %.3fms max per tick",
+                        report.active(), report.culled(), report.averageMillis(), report.maxMillis()));
+            }
+            windowTicks = 0;
+            windowNanos = 0;
+            windowMaxNanos = 0;
+        }
+    }
+
+    private boolean hasViewer(Location location) {
+        for (Player player : location.getWorld().getPlayers()) {
+            if (player.getLocation().distanceSquared(location) <= viewDistanceSquared) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ticker timing.
+     *
+     * @param active Entities animated in the last tick
+     * @param culled Entities skipped in the last tick (no player near)
+     * @param lastMillis Time spent in the last tick
+     * @param averageMillis Average time per tick in the current report window
+     * @param maxMillis Longest tick in the current report window
+     */
+    public record Report(int active, int culled, double lastMillis, double averageMillis, double maxMillis) {
+    }
+}
@@ -39,6 +39,7 @@ public abstract class LootboxItem {
     @Setter
     @Getter
     private boolean isChanceManuallySet;
+    private volatile ItemStack cachedDisplayItem;
 
     /**
      * Creates a new lootbox item.
@@ -161,11 +162,38 @@ public abstract class LootboxItem {
 
     /**
      * Gets a display version of this item. Includes rarity and chance
-     * information in lore.
+     * information in lore. Returns a copy that callers may modify.
      *
      * @return ItemStack configured for display
      */
     public ItemStack getDisplayItem() {
+        return getCachedDisplayItem().clone();
+    }
+
+    /**
+     * Gets the shared, prerendered display stack of this item.
+     * Rendered once and reused by every GUI frame - never modify it,
+     * use getDisplayItem() for a mutable copy. The item, chance and rarity
+     * never change after construction (edits create a new LootboxItem),
+     * so the cache can't go stale.
+     *
+     * @return Shared display ItemStack
+     */
+    public ItemStack getCachedDisplayItem() {
+        ItemStack displayItem = cachedDisplayItem;
+        if (displayItem == null) {
+            displayItem = renderDisplayItem();
+            cachedDisplayItem = displayItem;
+        }
+        return displayItem;
+    }
+
+    /**
+     * Renders the display stack with rarity and chance lore.
+     *
+     * @return Newly built display ItemStack
+     */
+    private ItemStack renderDisplayItem() {
         ItemStack displayItem = item.clone();
         ItemMeta meta = displayItem.getItemMeta();
         if (meta != null) {
@@ -182,7 +210,7 @@ public abstract class LootboxItem {
                     .color(NamedTextColor.GRAY)
                     .decoration(TextDecoration.ITALIC, false)
                     .append(Component.text(rarity)
-                            .color(RewardRarity.valueOf(rarity.toUpperCase()).getColor())
+                            .color(RewardRarity.fromString(rarity).getColor())
                             .decoration(TextDecoration.ITALIC, false)));
             lore.add(Component.text(String.format("Chance: %.1f%%", chance))
                     .color(NamedTextColor.GRAY)
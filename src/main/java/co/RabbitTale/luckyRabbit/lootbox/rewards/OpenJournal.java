@@ -0,0 +1,435 @@
+package co.RabbitTale.luckyRabbit.lootbox.rewards;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.INFO_COLOR;
+import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+import co.RabbitTale.luckyRabbit.utils.SafeFiles;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+/*
+ * OpenJournal.java
+ *
+ * Journal of lootbox openings in progress, so a restart or crash
+ * between taking the key and delivering the reward loses nothing.
+ *
+ * Session states:
+ * - Reserved: key taken, seed assigned (R)
+ * - Rolled: reward drawn from the seed (W)
+ * - Delivered (D) or refunded (X): finished, dropped on compaction
+ *
+ * Recovery (once lootboxes are loaded):
+ * - Reserved only: the player never saw a reward, the keys are refunded
+ * - Rolled: the reward is replayed from the seed when the player is online,
+ *   or refunded if the lootbox contents changed since
+ * - Players offline during delivery get the reward on their next join
+ *
+ * File (opens/journal.log, one tab-separated line per state change):
+ * - Lines are queued and appended by a background task once a second,
+ *   a failed write is kept and retried on the next one
+ * - Key balances are made durable before an R line is written, so a
+ *   recovered session always had its keys taken on disk
+ * - A torn last line from a crash is ignored
+ * - Rewritten with only the unfinished sessions on start, on shutdown
+ *   and whenever it grows past COMPACT_LINES
+ */
+public class OpenJournal {
+
+    private static final long FLUSH_INTERVAL = 20L;
+    private static final int COMPACT_LINES = 5000;
+    private static final String RESERVED = "R";
+    private static final String ROLLED = "W";
+    private static final String DELIVERED = "D";
+    private static final String REFUNDED = "X";
+
+    private final LuckyRabbit plugin;
+    private final File file;
+    private final boolean sync;
+    private final Queue<String> queued;
+    private final StringBuilder unwritten = new StringBuilder();
+    private int unwrittenCount;
+    private volatile boolean keysUnsynced;
+    private final Map<Long, Session> open;
+    private final Map<UUID, List<Session>> waiting;
+    private FileChannel channel;
+    private int lines;
+    private boolean recovered;
+    private int taskId = -1;
+
+    /**
+     * Creates the journal and reads the sessions left unfinished by the last run.
+     *
+     * @param plugin Plugin instance
+     */
+    public OpenJournal(LuckyRabbit plugin) {
+        this.plugin = plugin;
+        this.file = new File(new File(plugin.getDataFolder(), "opens"), "journal.log");
+        this.sync = plugin.getConfig().getBoolean("storage.fsync", true);
+        this.queued = new ConcurrentLinkedQueue<>();
+        this.open = new ConcurrentHashMap<>();
+        this.waiting = new HashMap<>();
+
+        load();
+        compact();
+    }
+
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+
+        String content;
+        try {
+            content = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            Logger.error("Failed to read open journal", e);
+            return;
+        }
+
+        List<String> records = new ArrayList<>(content.lines().toList());
+        if (!content.isEmpty() && !content.endsWith("\n")) {
+            Logger.warning("Skipping incomplete open journal line: " + records.remove(records.size() - 1));
+        }
+
+        for (String record : records) {
+            String[] fields = record.split("\t");
+            try {
+                long seed = OpenLog.parseSeed(fields[1]);
+                switch (fields[0]) {
+                    // A session may be written again after a compaction, keep the first
+                    case RESERVED -> open.putIfAbsent(seed, new Session(seed, UUID.fromString(fields[2]),
+                            fields[3], Integer.parseInt(fields[4])));
+                    case ROLLED -> {
+                        Session session = open.get(seed);
+                        if (session != null) {
+                            session.version = fields[2];
+                        }
+                    }
+                    case DELIVERED, REFUNDED -> open.remove(seed);
+                    default -> Logger.warning("Skipping unknown open journal line: " + record);
+                }
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                Logger.warning("Skipping invalid open journal line: " + record);
+            }
+        }
+
+        if (!open.isEmpty()) {
+            Logger.warning("Found " + open.size() + " lootbox opening(s) interrupted by the last shutdown");
+        }
+    }
+
+    /**
+     * Starts writing queued records once a second.
+     */
+    public void start() {
+        if (taskId != -1) {
+            return;
+        }
+        taskId = plugin.getServer().getScheduler()
+                .runTaskTimerAsynchronously(plugin, this::flush, FLUSH_INTERVAL, FLUSH_INTERVAL)
+                .getTaskId();
+    }
+
+    /**
+     * Finishes the sessions interrupted by the last run. Needs the lootboxes,
+     * so it runs once after they are loaded; later calls do nothing.
+     * Must be called from the main thread.
+     */
+    public void recover() {
+        if (recovered) {
+            return;
+        }
+        recovered = true;
+
+        for (Session session : List.copyOf(open.values())) {
+            if (session.version == null) {
+                refund(session);
+                Logger.info("Refunded " + session.count + " " + session.lootboxId
+                        + " key(s) of " + session.playerId + " (opening interrupted before the roll)");
+                continue;
+            }
+
+            waiting.computeIfAbsent(session.playerId, uuid -> new ArrayList<>()).add(session);
+            Player player = Bukkit.getPlayer(session.playerId);
+            if (player != null) {
+                resume(player);
+            }
+        }
+    }
+
+    /**
+     * Delivers rewards a player missed, from an interrupted opening
+     * or because they left before the delivery. Must be called from the main thread.
+     *
+     * @param player Player who joined
+     */
+    public void resume(Player player) {
+        List<Session> sessions = waiting.remove(player.getUniqueId());
+        if (sessions == null) {
+            return;
+        }
+
+        for (Session session : sessions) {
+            Lootbox lootbox = plugin.getLootboxManager().getLootbox(session.lootboxId);
+            if (lootbox == null || !lootbox.getCompiled().getVersion().equals(session.version)) {
+                // The seed would roll something else now
+                refund(session);
+                player.sendMessage(Component.text("An interrupted lootbox opening was refunded: "
+                        + session.count + " key(s)", INFO_COLOR));
+                continue;
+            }
+
+            try {
+                player.sendMessage(Component.text("Completing your interrupted opening of ", INFO_COLOR)
+                        .append(MiniMessage.miniMessage().deserialize(lootbox.getDisplayName())));
+                if (session.count == 1) {
+                    RewardDelivery.openInstantly(plugin, player, lootbox, session);
+                } else {
+                    RewardDelivery.openBulk(plugin, player, lootbox, session);
+                }
+                Logger.info("Replayed interrupted opening " + Long.toHexString(session.seed)
+                        + " of " + player.getName());
+            } catch (Exception e) {
+                Logger.error("Failed to replay opening " + Long.toHexString(session.seed), e);
+                refund(session);
+            }
+        }
+    }
+
+    /**
+     * Starts a session. Call right after the keys were taken.
+     *
+     * @param player Player opening the lootbox
+     * @param lootbox Lootbox being opened
+     * @param count Number of keys taken
+     * @return Session holding the open seed
+     */
+    public Session begin(Player player, Lootbox lootbox, int count) {
+        Session session = new Session(plugin.getOpenLog().nextSeed(), player.getUniqueId(), lootbox.getId(), count);
+        open.put(session.seed, session);
+        keysUnsynced = true;
+        append(RESERVED, session.seed, session.playerId + "\t" + session.lootboxId + "\t" + count);
+        return session;
+    }
+
+    /**
+     * Records that the reward was drawn. From here on an interruption replays it.
+     *
+     * @param session Session of the opening
+     * @param version Content version the reward was rolled from
+     */
+    public void rolled(Session session, String version) {
+        if (version.equals(session.version)) {
+            return;
+        }
+        session.version = version;
+        append(ROLLED, session.seed, version);
+    }
+
+    /**
+     * Finishes a session after the reward was given.
+     *
+     * @param session Session of the opening
+     */
+    public void delivered(Session session) {
+        if (open.remove(session.seed) != null) {
+            append(DELIVERED, session.seed, null);
+        }
+    }
+
+    /**
+     * Gives the keys of a session back and finishes it.
+     *
+     * @param session Session of the opening
+     */
+    public void refund(Session session) {
+        if (open.remove(session.seed) == null) {
+            return;
+        }
+        try {
+            plugin.getUserManager().addKeys(session.playerId, session.lootboxId, session.count);
+        } catch (IllegalArgumentException e) {
+            Logger.warning("Could not refund " + session.count + " key(s) of deleted lootbox " + session.lootboxId);
+        }
+        append(REFUNDED, session.seed, null);
+    }
+
+    /**
+     * Keeps a rolled reward for the player's next join,
+     * used when they leave before it was delivered.
+     *
+     * @param session Session of the opening
+     */
+    public void defer(Session session) {
+        waiting.computeIfAbsent(session.playerId, uuid -> new ArrayList<>()).add(session);
+        Logger.debug("Deferred opening " + Long.toHexString(session.seed) + " until " + session.playerId + " joins");
+    }
+
+    /**
+     * Writes the remaining records and compacts the journal.
+     */
+    public void close() {
+        if (taskId != -1) {
+            plugin.getServer().getScheduler().cancelTask(taskId);
+            taskId = -1;
+        }
+        flush();
+        compact();
+        closeChannel();
+    }
+
+    private void append(String state, long seed, String data) {
+        queued.add(state + "\t" + Long.toHexString(seed) + (data != null ? "\t" + data : "") + "\n");
+    }
+
+    /**
+     * Appends every queued record in one write. Records of a failed
+     * write stay in front of the queue for the next flush.
+     */
+    private synchronized void flush() {
+        String record;
+        while ((record = queued.poll()) != null) {
+            unwritten.append(record);
+            unwrittenCount++;
+        }
+        if (unwrittenCount == 0) {
+            return;
+        }
+        syncKeys();
+
+        long start = -1;
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            start = channel.size();
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(unwritten.toString());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (sync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            Logger.error("Failed to write " + unwrittenCount + " open journal record(s), retrying next flush", e);
+            discardPartialWrite(start);
+            return;
+        }
+
+        lines += unwrittenCount;
+        unwritten.setLength(0);
+        unwrittenCount = 0;
+        if (lines > COMPACT_LINES) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the journal with only the unfinished sessions. Records
+     * still queued are appended afterwards, finishing a session twice is harmless.
+     */
+    private synchronized void compact() {
+        syncKeys();
+        StringBuilder data = new StringBuilder();
+        for (Session session : open.values()) {
+            String seed = Long.toHexString(session.seed);
+            data.append(RESERVED).append('\t').append(seed).append('\t').append(session.playerId)
+                    .append('\t').append(session.lootboxId).append('\t').append(session.count).append('\n');
+            String version = session.version;
+            if (version != null) {
+                data.append(ROLLED).append('\t').append(seed).append('\t').append(version).append('\n');
+            }
+        }
+
+        closeChannel();
+        try {
+            SafeFiles.write(file, data.toString(), sync);
+            // The rewrite holds the state the failed records described
+            unwritten.setLength(0);
+            unwrittenCount = 0;
+            lines = open.size();
+            Logger.debug("Compacted open journal to " + open.size() + " open session(s)");
+        } catch (IOException e) {
+            Logger.error("Failed to compact open journal", e);
+        }
+    }
+
+    /**
+     * Makes the key uses of new sessions durable before their R line is,
+     * otherwise a crash could refund or replay keys that were never taken on disk.
+     */
+    private void syncKeys() {
+        if (keysUnsynced) {
+            keysUnsynced = false;
+            plugin.getUserManager().syncKeys();
+        }
+    }
+
+    /**
+     * Cuts off what a failed write left, so the retry doesn't follow a torn line.
+     */
+    private void discardPartialWrite(long start) {
+        if (start >= 0) {
+            try {
+                channel.truncate(start);
+            } catch (IOException e) {
+                Logger.error("Failed to discard partial open journal write", e);
+            }
+        }
+        closeChannel();
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            Logger.error("Failed to close open journal", e);
+        }
+        channel = null;
+    }
+
+    /**
+     * One opening, from taking the keys until the reward is delivered.
+     */
+    @Getter
+    public static final class Session {
+
+        private final long seed;
+        private final UUID playerId;
+        private final String lootboxId;
+        private final int count;
+        private volatile String version;
+
+        private Session(long seed, UUID playerId, String lootboxId, int count) {
+            this.seed = seed;
+            this.playerId = playerId;
+            this.lootboxId = lootboxId;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package co.RabbitTale.luckyRabbit.lootbox.rewards;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+import co.RabbitTale.luckyRabbit.utils.SafeFiles;
+
+/*
+ * OpenLog.java
+ *
+ * Seeds every lootbox opening and records it, so any win can be
+ * replayed later with /lb replay.
+ *
+ * Seeds:
+ * - Per-server seed, generated once and kept in opens/state.yml
+ * - Open counter, reserved in blocks so it is rarely written; the next
+ *   block is saved in the background once half of the current one is used
+ * - state.yml is replaced atomically, a lost seed would repeat old openings
+ * - Open seed = SplitMix64 mix of server seed and counter
+ * - Each opening draws from its own SplittableRandom(seed)
+ *
+ * Log (opens/opens.log, one tab-separated line per opening):
+ * time, player name, player UUID, lootbox, lootbox version,
+ * seed (hex, unique per opening), open count, rewards (item id x amount)
+ * - Lines are queued and appended by a background task once a second,
+ *   the main thread never touches the files while players open lootboxes
+ */
+public class OpenLog {
+
+    private static final int RESERVE_BLOCK = 1000;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long FLUSH_INTERVAL = 20L;
+
+    private final LuckyRabbit plugin;
+    private final File stateFile;
+    private final File logFile;
+    private final Queue<String> queued = new ConcurrentLinkedQueue<>();
+    private final StringBuilder unwritten = new StringBuilder();
+    private long serverSeed;
+    private long counter;
+    private volatile long reserved;
+    private volatile boolean reserving;
+    private BufferedWriter writer;
+    private int taskId = -1;
+
+    /**
+     * Creates the open log and loads the seed state.
+     *
+     * @param plugin Plugin instance
+     */
+    public OpenLog(LuckyRabbit plugin) {
+        this.plugin = plugin;
+        File directory = new File(plugin.getDataFolder(), "opens");
+        if (!directory.exists() && !directory.mkdirs()) {
+            Logger.error("Failed to create opens directory!");
+        }
+        this.stateFile = new File(directory, "state.yml");
+        this.logFile = new File(directory, "opens.log");
+
+        loadState();
+    }
+
+    private void loadState() {
+        YamlConfiguration state = SafeFiles.loadYaml(stateFile);
+        if (state.contains("server-seed")) {
+            serverSeed = Long.parseUnsignedLong(state.getString("server-seed", "0"), 16);
+        } else {
+            serverSeed = new SecureRandom().nextLong();
+            Logger.info("Generated new server seed for lootbox openings");
+        }
+        counter = state.getLong("next-open", 0);
+
+        // Reserve a block up front, a crash then only skips unused ids
+        reserved = counter + RESERVE_BLOCK;
+        saveState(reserved);
+    }
+
+    private synchronized boolean saveState(long nextOpen) {
+        YamlConfiguration state = new YamlConfiguration();
+        state.set("server-seed", Long.toHexString(serverSeed));
+        state.set("next-open", nextOpen);
+        try {
+            SafeFiles.write(stateFile, state.saveToString(), true);
+            return true;
+        } catch (IOException e) {
+            Logger.error("Failed to save open seed state", e);
+            return false;
+        }
+    }
+
+    /**
+     * Starts writing queued log lines once a second.
+     */
+    public void start() {
+        if (taskId != -1) {
+            return;
+        }
+        taskId = plugin.getServer().getScheduler()
+                .runTaskTimerAsynchronously(plugin, this::flush, FLUSH_INTERVAL, FLUSH_INTERVAL)
+                .getTaskId();
+    }
+
+    /**
+     * Gets the seed for the next opening. Must be called from the main thread.
+     *
+     * @return Unique open seed
+     */
+    public long nextSeed() {
+        if (counter >= reserved) {
+            // Used up before the next block was saved, don't hand out unsaved ids
+            long next = counter + RESERVE_BLOCK;
+            if (saveState(next)) {
+                reserved = next;
+            }
+        } else if (!reserving && reserved - counter <= RESERVE_BLOCK / 2) {
+            reserving = true;
+            long next = reserved + RESERVE_BLOCK;
+            plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+                if (saveState(next)) {
+                    reserved = next;
+                }
+                reserving = false;
+            });
+        }
+        return mix(serverSeed + (counter++) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Queues an opening for the log. Safe to call from any thread.
+     *
+     * @param player Player who opened
+     * @param lootbox Opened lootbox
+     * @param version Content version the rewards were rolled from
+     * @param seed Open seed
+     * @param count Number of openings rolled from the seed
+     * @param rewards Won rewards, e.g. "diamond x3, gold x1"
+     */
+    public void record(Player player, Lootbox lootbox, String version, long seed, int count, String rewards) {
+        queued.add(Instant.now() + "\t" + player.getName() + "\t" + player.getUniqueId()
+                + "\t" + lootbox.getId() + "\t" + version + "\t" + Long.toHexString(seed)
+                + "\t" + count + "\t" + rewards + System.lineSeparator());
+    }
+
+    /**
+     * Appends every queued line in one write. Lines of a failed
+     * write are kept for the next flush.
+     */
+    private synchronized void flush() {
+        String line;
+        while ((line = queued.poll()) != null) {
+            unwritten.append(line);
+        }
+        if (unwritten.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(logFile.toPath(), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(unwritten.toString());
+            writer.flush();
+            unwritten.setLength(0);
+        } catch (IOException e) {
+            Logger.error("Failed to record lootbox openings, retrying next flush", e);
+            closeWriter();
+        }
+    }
+
+    /**
+     * Writes the remaining lines, saves the exact counter and closes the log.
+     */
+    public void close() {
+        if (taskId != -1) {
+            plugin.getServer().getScheduler().cancelTask(taskId);
+            taskId = -1;
+        }
+        flush();
+        saveState(counter);
+        synchronized (this) {
+            closeWriter();
+        }
+    }
+
+    private void closeWriter() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            Logger.error("Failed to close open log", e);
+        }
+        writer = null;
+    }
+
+    /**
+     * Parses a seed as written in the log.
+     *
+     * @param hex Seed in hexadecimal
+     * @return Seed value
+     * @throws NumberFormatException if the seed is invalid
+     */
+    public static long parseSeed(String hex) {
+        return Long.parseUnsignedLong(hex, 16);
+    }
+
+    /**
+     * SplitMix64 finalizer, spreads consecutive inputs over the whole range.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
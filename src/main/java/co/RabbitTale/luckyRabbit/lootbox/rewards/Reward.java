@@ -20,11 +20,11 @@ public record Reward(LootboxItem item, double chance, RewardRarity rarity, Rewar
 
     /**
      * Gets the display item for this reward.
-     * Used in GUIs and preview menus.
+     * Used in GUIs and preview menus. The stack is shared, clone it before modifying.
      *
-     * @return ItemStack configured for display
+     * @return Prerendered ItemStack configured for display
      */
     public ItemStack displayItem() {
-        return item.getDisplayItem();
+        return item.getCachedDisplayItem();
     }
 }
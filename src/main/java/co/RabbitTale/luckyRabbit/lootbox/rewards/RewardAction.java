@@ -1,5 +1,6 @@
 package co.RabbitTale.luckyRabbit.lootbox.rewards;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -61,9 +62,26 @@ public record RewardAction(ActionType type, List<String> commands, String group,
      * @param player Target player
      */
     public void execute(Player player) {
+        execute(player, 1);
+    }
+
+    /**
+     * Executes the action several times for a player, as when the same reward
+     * is won more than once in a bulk opening. Commands are prepared once and
+     * dispatched in one batch.
+     *
+     * @param player Target player
+     * @param times Number of times the reward was won
+     */
+    public void execute(Player player, int times) {
+        if (times <= 0) {
+            return;
+        }
+
         switch (type) {
             case COMMAND -> {
                 if (commands != null) {
+                    List<String> processed = new ArrayList<>(commands.size());
                     for (String command : commands) {
                         // Check if it's an economy command
                         if (command.startsWith("eco ")) {
@@ -74,23 +92,32 @@ public record RewardAction(ActionType type, List<String> commands, String group,
                                 continue;
                             }
                         }
+                        processed.add(command.replace("{player}", player.getName()));
+                    }
 
-                        String processedCommand = command.replace("{player}", player.getName());
-                        Bukkit.dispatchCommand(Bukkit.getConsoleSender(), processedCommand);
-                        Logger.debug("Executing command: " + processedCommand);
+                    for (int i = 0; i < times; i++) {
+                        for (String processedCommand : processed) {
+                            Bukkit.dispatchCommand(Bukkit.getConsoleSender(), processedCommand);
+                        }
                     }
+                    Logger.debug("Executed " + processed.size() + " command(s) " + times + "x for " + player.getName());
                 }
             }
             case PERMISSION -> {
                 if (group != null) {
                     String command;
+                    int repeats;
                     if (duration != null && duration.equalsIgnoreCase("permanent")) {
                         command = "lp user " + player.getName() + " parent add " + group;
+                        repeats = 1; // Adding a permanent group twice does nothing
                     } else {
                         command = "lp user " + player.getName() + " parent addtemp " + group + " " + duration + " accumulate";
+                        repeats = times; // Each win extends the duration
+                    }
+                    for (int i = 0; i < repeats; i++) {
+                        Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
                     }
-                    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
-                    Logger.debug("Executing permission command: " + command);
+                    Logger.debug("Executing permission command " + repeats + "x: " + command);
                 }
             }
         }
@@ -0,0 +1,486 @@
+package co.RabbitTale.luckyRabbit.lootbox.rewards;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+import java.util.random.RandomGenerator;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.DESCRIPTION_COLOR;
+import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.ERROR_COLOR;
+import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.INFO_COLOR;
+import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.ITEM_COLOR;
+import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.SEPARATOR_COLOR;
+import static co.RabbitTale.luckyRabbit.commands.LootboxCommand.TARGET_COLOR;
+import co.RabbitTale.luckyRabbit.lootbox.CompiledLootbox;
+import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
+import co.RabbitTale.luckyRabbit.lootbox.entity.LootboxEntity;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+
+/*
+ * RewardDelivery.java
+ *
+ * Single path for handing a won reward to a player.
+ * Used by opening animations and by instant opening.
+ *
+ * Features:
+ * - Amount range rolling
+ * - Reward actions (commands/permissions) or cleaned item stacks
+ * - Global win broadcast
+ * - Open count tracking
+ * - Seeded rolls, every opening recorded in the OpenLog
+ * - Rolls and deliveries recorded in the OpenJournal, seeds come from its session
+ * - A session is finished as soon as any reward was given, even if a later
+ *   step fails, so the caller's refund can't hand out the keys a second time
+ * - Legendary effects at the player's nearest entity of the lootbox
+ *
+ * Instant Opening:
+ * - Draws the reward and delivers it right away
+ * - No GUI, frames or delayed tasks
+ *
+ * Bulk Opening:
+ * - N rewards rolled in one pass
+ * - Identical items merged into full stacks, one inventory update
+ * - Actions batched per reward
+ * - One summary, one broadcast line, one save
+ */
+public final class RewardDelivery {
+
+    private static final double LEGENDARY_EFFECT_RADIUS = 16.0;
+
+    private RewardDelivery() {
+    }
+
+    /**
+     * Opens a lootbox without an animation. The key must already be taken.
+     *
+     * @param plugin Plugin instance
+     * @param player Player opening the lootbox
+     * @param lootbox Lootbox to open
+     * @param session Journal session of the opening
+     * @return Reward that was delivered
+     */
+    public static Reward openInstantly(LuckyRabbit plugin, Player player, Lootbox lootbox, OpenJournal.Session session) {
+        CompiledLootbox compiled = lootbox.getCompiled();
+        SplittableRandom random = new SplittableRandom(session.getSeed());
+        int rewardIndex = compiled.rollIndex(random);
+        Reward reward = compiled.getReward(rewardIndex);
+        plugin.getOpenJournal().rolled(session, compiled.getVersion());
+
+        player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
+        if (reward.rarity() == RewardRarity.LEGENDARY) {
+            playLegendaryEffects(plugin, player, lootbox);
+        }
+
+        deliver(plugin, player, lootbox, compiled, rewardIndex, session, random);
+        return reward;
+    }
+
+    /**
+     * Gives a reward to a player, broadcasts the win and counts the opening.
+     * Finishes the journal session once the reward was given, also when a
+     * later step throws.
+     *
+     * @param plugin Plugin instance
+     * @param player Player receiving the reward
+     * @param lootbox Lootbox the reward was won from
+     * @param compiled Compiled rewards the index refers to
+     * @param rewardIndex Index of the won reward
+     * @param session Journal session of the opening, its seed is recorded in the open log
+     * @param random Random source the reward index was rolled from
+     */
+    public static void deliver(LuckyRabbit plugin, Player player, Lootbox lootbox, CompiledLootbox compiled,
+                               int rewardIndex, OpenJournal.Session session, RandomGenerator random) {
+        Reward reward = compiled.getReward(rewardIndex);
+
+        // Get reward item and prepare for giving
+        ItemStack rewardItem = compiled.getDisplayItem(rewardIndex).clone();
+        Component rewardName = rewardName(rewardItem, reward);
+
+        // Roll the amount if the item has an amount range
+        CompiledLootbox.AmountRange amountRange = compiled.getAmountRange(rewardIndex);
+        if (amountRange.isRange()) {
+            int randomAmount = compiled.rollAmount(rewardIndex, random);
+            rewardItem.setAmount(randomAmount);
+            Logger.debug("Generated random amount: " + randomAmount + " (range: " + amountRange.min() + "-" + amountRange.max() + ")");
+        }
+
+        boolean given = false;
+        try {
+            if (reward.action() != null) {
+                // A failing action may already have run part of its commands
+                given = true;
+                executeAction(player, reward, rewardItem, 1);
+            } else {
+                // For physical items, clean the lore and give the item
+                cleanLore(rewardItem);
+                player.getInventory().addItem(rewardItem);
+                given = true;
+            }
+
+            // Broadcast to all players
+            Component broadcastMessage = winMessage(player, rewardItem.getAmount(), rewardName, reward.rarity())
+                    .append(Component.text(" from ")
+                            .color(DESCRIPTION_COLOR))
+                    .append(MiniMessage.miniMessage().deserialize(lootbox.getDisplayName()))
+                    .append(Component.text("!")
+                            .color(DESCRIPTION_COLOR));
+            for (Player p : Bukkit.getOnlinePlayers()) {
+                p.sendMessage(broadcastMessage);
+            }
+
+            // Count the opening
+            plugin.getStatsStore().recordOpens(lootbox.getId(), 1);
+            plugin.getStatsStore().recordWins(lootbox.getId(), reward.item().getId(), reward.rarity(), 1);
+            plugin.getOpenLog().record(player, lootbox, compiled.getVersion(), session.getSeed(), 1,
+                    reward.item().getId() + " x" + rewardItem.getAmount());
+        } finally {
+            if (given) {
+                plugin.getOpenJournal().delivered(session);
+            }
+        }
+    }
+
+    /**
+     * Gets the most keys a player may open at once.
+     *
+     * @param plugin Plugin instance
+     * @return Bulk open limit from config (at least 1)
+     */
+    public static int getBulkLimit(LuckyRabbit plugin) {
+        return Math.max(1, plugin.getConfig().getInt("settings.bulk-open-max", 64));
+    }
+
+    /**
+     * Opens a lootbox several times in one pass. The keys must already be taken.
+     * Rewards are rolled together, identical items are merged into full stacks,
+     * actions run in one batch and the lootbox is saved once. Everything is
+     * rolled and prepared before the first reward is given.
+     *
+     * @param plugin Plugin instance
+     * @param player Player opening the lootbox
+     * @param lootbox Lootbox to open
+     * @param session Journal session of the opening, holds the number of openings
+     * @throws IllegalArgumentException if count is not positive
+     */
+    public static void openBulk(LuckyRabbit plugin, Player player, Lootbox lootbox, OpenJournal.Session session) {
+        int count = session.getCount();
+        if (count <= 0) {
+            throw new IllegalArgumentException("Open count must be greater than 0");
+        }
+
+        CompiledLootbox compiled = lootbox.getCompiled();
+        long seed = session.getSeed();
+
+        // Roll every opening first, then handle each reward once
+        CompiledLootbox.BulkRoll roll = compiled.rollBulk(count, new SplittableRandom(seed));
+        int[] wins = roll.wins();
+        plugin.getOpenJournal().rolled(session, compiled.getVersion());
+        StringJoiner logged = new StringJoiner(", ");
+
+        List<ItemStack> stacks = new ArrayList<>();
+        List<Integer> actions = new ArrayList<>();
+        List<Component> summary = new ArrayList<>();
+        int bestIndex = -1;
+        Component bestName = null;
+        int bestAmount = 0;
+        for (int index = 0; index < wins.length; index++) {
+            int times = wins[index];
+            if (times == 0) {
+                continue;
+            }
+
+            Reward reward = compiled.getReward(index);
+            ItemStack item = compiled.getDisplayItem(index).clone();
+            Component name = rewardName(item, reward);
+
+            int amount = roll.amounts()[index];
+            logged.add(reward.item().getId() + " x" + amount);
+            if (reward.action() != null) {
+                actions.add(index);
+            } else {
+                // Merge into full stacks
+                cleanLore(item);
+                int remaining = amount;
+                while (remaining > 0) {
+                    ItemStack stack = item.clone();
+                    stack.setAmount(Math.min(remaining, item.getMaxStackSize()));
+                    remaining -= stack.getAmount();
+                    stacks.add(stack);
+                }
+            }
+
+            summary.add(Component.text("» ", SEPARATOR_COLOR)
+                    .append(Component.text(amount + "x ", ITEM_COLOR))
+                    .append(name.color(ITEM_COLOR))
+                    .append(Component.text(" (", DESCRIPTION_COLOR))
+                    .append(Component.text(reward.rarity().toString(), reward.rarity().getColor()))
+                    .append(Component.text(")", DESCRIPTION_COLOR)));
+
+            if (bestIndex == -1 || reward.rarity().compareTo(compiled.getReward(bestIndex).rarity()) > 0) {
+                bestIndex = index;
+                bestName = name;
+                bestAmount = amount;
+            }
+        }
+
+        boolean given = false;
+        try {
+            for (int index : actions) {
+                // A failing action may already have run part of its commands
+                given = true;
+                executeAction(player, compiled.getReward(index), compiled.getDisplayItem(index), wins[index]);
+            }
+
+            // One inventory update, overflow is dropped at the player
+            if (!stacks.isEmpty()) {
+                Map<Integer, ItemStack> leftover = player.getInventory().addItem(stacks.toArray(new ItemStack[0]));
+                given = true;
+                for (ItemStack stack : leftover.values()) {
+                    player.getWorld().dropItemNaturally(player.getLocation(), stack);
+                }
+                if (!leftover.isEmpty()) {
+                    summary.add(Component.text("Your inventory is full, some items were dropped!", ERROR_COLOR));
+                }
+            }
+
+            announceBulk(plugin, player, lootbox, compiled, count, summary, bestIndex, bestName, bestAmount);
+
+            // Count every opening
+            for (int index = 0; index < wins.length; index++) {
+                if (wins[index] > 0) {
+                    Reward reward = compiled.getReward(index);
+                    plugin.getStatsStore().recordWins(lootbox.getId(), reward.item().getId(), reward.rarity(), wins[index]);
+                }
+            }
+            plugin.getStatsStore().recordOpens(lootbox.getId(), count);
+            plugin.getOpenLog().record(player, lootbox, compiled.getVersion(), seed, count, logged.toString());
+        } finally {
+            if (given) {
+                plugin.getOpenJournal().delivered(session);
+            }
+        }
+        Logger.debug(player.getName() + " bulk opened " + count + "x " + lootbox.getId()
+                + " (" + summary.size() + " different rewards)");
+    }
+
+    /**
+     * Plays the win effects of a bulk opening, sends the summary
+     * and broadcasts the best reward.
+     */
+    private static void announceBulk(LuckyRabbit plugin, Player player, Lootbox lootbox, CompiledLootbox compiled,
+                                     int count, List<Component> summary, int bestIndex, Component bestName,
+                                     int bestAmount) {
+        player.playSound(player.getLocation(), Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
+        RewardRarity bestRarity = compiled.getReward(bestIndex).rarity();
+        if (bestRarity == RewardRarity.LEGENDARY) {
+            playLegendaryEffects(plugin, player, lootbox);
+        }
+
+        // Summary for the player
+        player.sendMessage(Component.empty());
+        player.sendMessage(Component.text("Opened " + count + "x ", INFO_COLOR)
+                .append(MiniMessage.miniMessage().deserialize(lootbox.getDisplayName()))
+                .append(Component.text(":", INFO_COLOR)));
+        for (Component line : summary) {
+            player.sendMessage(line);
+        }
+        player.sendMessage(Component.empty());
+
+        // One broadcast line with the best reward
+        Component broadcastMessage = Component.text("» ")
+                .color(SEPARATOR_COLOR)
+                .append(Component.text(player.getName())
+                        .color(TARGET_COLOR))
+                .append(Component.text(" has opened " + count + "x ")
+                        .color(DESCRIPTION_COLOR))
+                .append(MiniMessage.miniMessage().deserialize(lootbox.getDisplayName()))
+                .append(Component.text(", best reward: ")
+                        .color(DESCRIPTION_COLOR))
+                .append(Component.text(bestAmount + "x ")
+                        .color(ITEM_COLOR))
+                .append(bestName
+                        .color(ITEM_COLOR))
+                .append(Component.text(" (")
+                        .color(DESCRIPTION_COLOR))
+                .append(Component.text(bestRarity.toString())
+                        .color(bestRarity.getColor()))
+                .append(Component.text(")!")
+                        .color(DESCRIPTION_COLOR));
+        for (Player p : Bukkit.getOnlinePlayers()) {
+            p.sendMessage(broadcastMessage);
+        }
+    }
+
+    /**
+     * Gets the name shown in win messages for a reward item.
+     */
+    private static Component rewardName(ItemStack item, Reward reward) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null && meta.hasDisplayName()) {
+            return MiniMessage.miniMessage().deserialize(PlainTextComponentSerializer.plainText()
+                    .serialize(Objects.requireNonNull(meta.displayName())));
+        }
+
+        // For virtual rewards, use the first lore line
+        if (reward.action() != null && meta != null && meta.hasLore() && !Objects.requireNonNull(meta.lore()).isEmpty()) {
+            String firstLoreLine = PlainTextComponentSerializer.plainText()
+                    .serialize(Objects.requireNonNull(meta.lore()).get(0));
+
+            // Extract the actual reward from lore (e.g., "Adds 1000 coins" -> "1000 coins")
+            String rewardText = firstLoreLine.replaceFirst(".*?([0-9]+.*?)$", "$1");
+            return Component.text(rewardText).color(NamedTextColor.YELLOW);
+        }
+        return Component.text(item.getType().name());
+    }
+
+    /**
+     * Runs the action of a virtual reward. Rewards without lore are display-only.
+     */
+    private static void executeAction(Player player, Reward reward, ItemStack item, int times) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null && meta.hasLore() && !Objects.requireNonNull(meta.lore()).isEmpty()) {
+            reward.action().execute(player, times);
+        }
+    }
+
+    /**
+     * Removes the amount range, chance and rarity lines from a physical reward.
+     */
+    private static void cleanLore(ItemStack item) {
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null || !meta.hasLore()) {
+            return;
+        }
+
+        List<Component> lore = new ArrayList<>(Objects.requireNonNull(meta.lore()));
+
+        // Remove amount range, chance and rarity lines
+        lore.removeIf(line -> {
+            String plainText = PlainTextComponentSerializer.plainText().serialize(line);
+            return plainText.startsWith("Amount:") ||
+                   plainText.startsWith("Chance:") ||
+                   plainText.startsWith("Rarity:") ||
+                   plainText.isEmpty(); // Remove empty lines
+        });
+
+        // Remove any trailing empty lines
+        while (!lore.isEmpty() && PlainTextComponentSerializer.plainText()
+                .serialize(lore.get(lore.size() - 1)).isEmpty()) {
+            lore.remove(lore.size() - 1);
+        }
+
+        meta.lore(lore);
+        item.setItemMeta(meta);
+    }
+
+    /**
+     * Builds the "player has won Nx item (rarity)" part of a broadcast.
+     */
+    private static Component winMessage(Player player, int amount, Component rewardName, RewardRarity rarity) {
+        return Component.text("» ")
+                .color(SEPARATOR_COLOR)
+                .append(Component.text(player.getName())
+                        .color(TARGET_COLOR))
+                .append(Component.text(" has won ")
+                        .color(DESCRIPTION_COLOR))
+                .append(Component.text(amount + "x ")
+                        .color(ITEM_COLOR))
+                .append(rewardName
+                        .color(ITEM_COLOR))
+                .append(Component.text(" (")
+                        .color(DESCRIPTION_COLOR))
+                .append(Component.text(rarity.toString())
+                        .color(rarity.getColor()))
+                .append(Component.text(")")
+                        .color(DESCRIPTION_COLOR));
+    }
+
+    /**
+     * Plays the legendary win effects above the lootbox entity the player
+     * is at, if one is placed near them.
+     *
+     * @param plugin Plugin instance
+     * @param player Player who won
+     * @param lootbox Lootbox the legendary reward was won from
+     */
+    public static void playLegendaryEffects(LuckyRabbit plugin, Player player, Lootbox lootbox) {
+        // Get the lootbox entity location, only the chunks around the player are searched
+        LootboxEntity entity = plugin.getLootboxManager()
+                .getNearestEntity(lootbox.getId(), player.getLocation(), LEGENDARY_EFFECT_RADIUS);
+        if (entity == null) {
+            return;
+        }
+
+        final Location effectLocation = entity.getLocation().clone().add(0, 1, 0); // Slightly above the entity
+
+        // Play special sounds at entity location for everyone to hear
+        effectLocation.getWorld().playSound(effectLocation, Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
+        effectLocation.getWorld().playSound(effectLocation, Sound.ENTITY_ENDER_DRAGON_DEATH, 0.5f, 2.0f);
+        effectLocation.getWorld().playSound(effectLocation, Sound.ENTITY_WITHER_SPAWN, 0.3f, 2.0f);
+
+        // Create particle effects
+        new BukkitRunnable() {
+            double y = 0;
+            int ticks = 0;
+
+            @Override
+            public void run() {
+                if (ticks >= 40) { // 2 seconds of effects
+                    this.cancel();
+                    return;
+                }
+
+                Location particleLoc = effectLocation.clone().add(0, y, 0);
+
+                // Spiral effect
+                double radius = 1.5;
+                for (double degree = 0; degree < 360; degree += 20) {
+                    double radian = Math.toRadians(degree);
+                    double x = Math.cos(radian) * radius;
+                    double z = Math.sin(radian) * radius;
+
+                    Location spawnLoc = particleLoc.clone().add(x, 0, z);
+
+                    // Dragon breath particles rising up
+                    effectLocation.getWorld().spawnParticle(
+                        Particle.DRAGON_BREATH,
+                        spawnLoc,
+                        1, 0, 0, 0, 0
+                    );
+
+                    // End rod particles for extra effect
+                    effectLocation.getWorld().spawnParticle(
+                        Particle.END_ROD,
+                        spawnLoc,
+                        1, 0, 0, 0, 0.05
+                    );
+                }
+
+                // Lightning effect (visual only)
+                if (ticks % 5 == 0) {
+                    effectLocation.getWorld().strikeLightningEffect(particleLoc);
+                }
+
+                y += 0.1;
+                ticks++;
+            }
+        }.runTaskTimer(plugin, 0L, 1L);
+    }
+}
@@ -37,6 +37,24 @@ public enum RewardRarity {
         this.color = color;
     }
 
+    /**
+     * Parses a rarity name case-insensitively.
+     * Unknown or missing names fall back to COMMON.
+     *
+     * @param name Rarity name from config
+     * @return Matching rarity or COMMON
+     */
+    public static RewardRarity fromString(String name) {
+        if (name != null) {
+            for (RewardRarity rarity : values()) {
+                if (rarity.name().equalsIgnoreCase(name)) {
+                    return rarity;
+                }
+            }
+        }
+        return COMMON;
+    }
+
     /**
      * Gets the display name of this rarity.
      *
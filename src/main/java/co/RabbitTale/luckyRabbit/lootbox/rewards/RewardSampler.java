@@ -0,0 +1,146 @@
+package co.RabbitTale.luckyRabbit.lootbox.rewards;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import co.RabbitTale.luckyRabbit.lootbox.items.LootboxItem;
+
+/*
+ * RewardSampler.java
+ *
+ * Precompiled weighted sampler for lootbox rewards.
+ * Built once per lootbox content and shared by every opening.
+ *
+ * Implementation:
+ * - Vose alias method
+ * - O(n) build, O(1) per draw
+ * - Weights taken from LootboxItem chances
+ * - Non-positive or NaN chances count as zero weight
+ * - Falls back to a uniform draw if every weight is zero
+ *
+ * Draws return an index into getItems(), so callers can keep
+ * parallel arrays (rewards, display items) aligned with it.
+ */
+public final class RewardSampler {
+
+    private final List<LootboxItem> items;
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Compiles a sampler for the given items.
+     *
+     * @param items Items to sample from, in the order indexes refer to
+     * @throws IllegalArgumentException if items is empty
+     */
+    public RewardSampler(Collection<LootboxItem> items) {
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("Cannot build a sampler without items");
+        }
+
+        this.items = List.copyOf(items);
+        int size = this.items.size();
+        this.probability = new double[size];
+        this.alias = new int[size];
+
+        double[] weights = new double[size];
+        double totalWeight = 0;
+        for (int i = 0; i < size; i++) {
+            double chance = this.items.get(i).getChance();
+            weights[i] = chance > 0 ? chance : 0; // Also maps NaN to 0
+            totalWeight += weights[i];
+        }
+
+        // Every item is equally likely if there is nothing to weigh by
+        if (totalWeight <= 0) {
+            for (int i = 0; i < size; i++) {
+                probability[i] = 1.0;
+                alias[i] = i;
+            }
+            return;
+        }
+
+        // Scale weights so that the average column height is exactly 1
+        double[] scaled = new double[size];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            scaled[i] = weights[i] * size / totalWeight;
+            if (scaled[i] < 1.0) {
+                small.push(i);
+            } else {
+                large.push(i);
+            }
+        }
+
+        // Pair each short column with a tall one that tops it up
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+
+        // Whatever is left is full height (up to rounding error)
+        while (!large.isEmpty()) {
+            int index = large.pop();
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (!small.isEmpty()) {
+            int index = small.pop();
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+    }
+
+    /**
+     * Draws a weighted random index.
+     *
+     * @param random Random source to draw from
+     * @return Index into getItems()
+     */
+    public int nextIndex(RandomGenerator random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    /**
+     * Draws a weighted random item.
+     *
+     * @param random Random source to draw from
+     * @return Selected item
+     */
+    public LootboxItem next(RandomGenerator random) {
+        return items.get(nextIndex(random));
+    }
+
+    /**
+     * Gets the items this sampler was built from.
+     *
+     * @return Unmodifiable list, in index order
+     */
+    public List<LootboxItem> getItems() {
+        return items;
+    }
+
+    /**
+     * Gets the number of items in this sampler.
+     *
+     * @return Item count
+     */
+    public int size() {
+        return items.size();
+    }
+}
@@ -0,0 +1,257 @@
+package co.RabbitTale.luckyRabbit.lootbox.stats;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.lootbox.rewards.RewardRarity;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+import co.RabbitTale.luckyRabbit.utils.SafeFiles;
+
+/*
+ * StatsStore.java
+ *
+ * Opening statistics, kept apart from the lootbox definition files.
+ * Counting never blocks, the counters are written in the background.
+ *
+ * Counters (LongAdder, safe from any thread):
+ * - opens: Openings per lootbox
+ * - reward: Wins per lootbox item
+ * - rarity: Wins per lootbox and rarity
+ *
+ * File (stats/stats.log):
+ * - One tab-separated line per changed counter: key fields, then the increase
+ * - Each save only appends what changed since the last one
+ * - Totals are summed on load and the file is compacted when it grows
+ * - Compaction replaces the file atomically, a torn last line is skipped on load
+ */
+public class StatsStore {
+
+    private static final String OPENS = "opens";
+    private static final String REWARD = "reward";
+    private static final String RARITY = "rarity";
+    private static final int COMPACT_FACTOR = 4;
+
+    private final LuckyRabbit plugin;
+    private final File file;
+    private final Map<String, LongAdder> counters;
+    private final Map<String, Long> persisted;
+    private int taskId = -1;
+
+    /**
+     * Creates the statistics store and loads the saved totals.
+     *
+     * @param plugin Plugin instance
+     */
+    public StatsStore(LuckyRabbit plugin) {
+        this.plugin = plugin;
+        File directory = new File(plugin.getDataFolder(), "stats");
+        if (!directory.exists() && !directory.mkdirs()) {
+            Logger.error("Failed to create stats directory!");
+        }
+        this.file = new File(directory, "stats.log");
+        this.counters = new ConcurrentHashMap<>();
+        this.persisted = new HashMap<>();
+
+        load();
+    }
+
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+
+        String content;
+        try {
+            content = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            Logger.error("Failed to load statistics", e);
+            return;
+        }
+
+        // A save cut off by a crash leaves a last line without newline,
+        // its number may be truncated, so it is dropped
+        List<String> lines = new ArrayList<>(content.lines().toList());
+        boolean torn = !content.isEmpty() && !content.endsWith("\n");
+        if (torn) {
+            Logger.warning("Skipping incomplete statistics line: " + lines.remove(lines.size() - 1));
+        }
+
+        for (String line : lines) {
+            int split = line.lastIndexOf('\t');
+            if (split <= 0) {
+                continue;
+            }
+            try {
+                long delta = Long.parseLong(line.substring(split + 1));
+                String key = line.substring(0, split);
+                counter(key).add(delta);
+                persisted.merge(key, delta, Long::sum);
+            } catch (NumberFormatException e) {
+                Logger.warning("Skipping invalid statistics line: " + line);
+            }
+        }
+
+        // Compacting also removes a torn line before anything is appended to it
+        if (torn || lines.size() > persisted.size() * COMPACT_FACTOR) {
+            compact();
+        }
+        Logger.debug("Loaded " + persisted.size() + " statistics counters");
+    }
+
+    /**
+     * Rewrites the file with one line per counter.
+     */
+    private void compact() {
+        StringBuilder data = new StringBuilder();
+        persisted.forEach((key, total) -> data.append(key).append('\t').append(total).append('\n'));
+
+        try {
+            SafeFiles.write(file, data.toString(), true);
+            Logger.debug("Compacted statistics to " + persisted.size() + " lines");
+        } catch (IOException e) {
+            Logger.error("Failed to compact statistics", e);
+        }
+    }
+
+    /**
+     * Starts writing the counters every settings.save-interval seconds.
+     * Restarts the task if already running.
+     */
+    public void start() {
+        if (taskId != -1) {
+            plugin.getServer().getScheduler().cancelTask(taskId);
+        }
+
+        long interval = Math.max(plugin.getConfig().getLong("settings.save-interval", 300), 1) * 20L;
+        taskId = plugin.getServer().getScheduler()
+                .runTaskTimerAsynchronously(plugin, this::save, interval, interval)
+                .getTaskId();
+    }
+
+    /**
+     * Stops the periodic save and writes the remaining changes.
+     */
+    public void close() {
+        if (taskId != -1) {
+            plugin.getServer().getScheduler().cancelTask(taskId);
+            taskId = -1;
+        }
+        save();
+    }
+
+    /**
+     * Appends every counter that changed since the last save.
+     */
+    public synchronized void save() {
+        StringBuilder data = new StringBuilder();
+        Map<String, Long> saved = new HashMap<>();
+        counters.forEach((key, counter) -> {
+            long total = counter.sum();
+            long delta = total - persisted.getOrDefault(key, 0L);
+            if (delta != 0) {
+                data.append(key).append('\t').append(delta).append('\n');
+                saved.put(key, total);
+            }
+        });
+        if (saved.isEmpty()) {
+            return;
+        }
+
+        try {
+            Files.writeString(file.toPath(), data, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            persisted.putAll(saved);
+        } catch (IOException e) {
+            Logger.error("Failed to save statistics", e);
+        }
+    }
+
+    /**
+     * Counts openings of a lootbox.
+     *
+     * @param lootboxId Opened lootbox
+     * @param count Number of openings
+     */
+    public void recordOpens(String lootboxId, int count) {
+        counter(OPENS + '\t' + lootboxId).add(count);
+    }
+
+    /**
+     * Counts wins of a reward.
+     *
+     * @param lootboxId Lootbox the reward belongs to
+     * @param itemId Won item
+     * @param rarity Rarity of the item
+     * @param times Number of wins
+     */
+    public void recordWins(String lootboxId, String itemId, RewardRarity rarity, int times) {
+        counter(REWARD + '\t' + lootboxId + '\t' + itemId).add(times);
+        counter(RARITY + '\t' + lootboxId + '\t' + rarity.name()).add(times);
+    }
+
+    /**
+     * Takes over the open count stored in an old lootbox file.
+     * Ignored once the lootbox has statistics of its own.
+     *
+     * @param lootboxId Lootbox ID
+     * @param openedCount Count from the definition file
+     */
+    public void migrateOpenCount(String lootboxId, long openedCount) {
+        String key = OPENS + '\t' + lootboxId;
+        if (openedCount > 0 && !counters.containsKey(key)) {
+            counter(key).add(openedCount);
+            Logger.info("Moved open count of " + lootboxId + " to the statistics store");
+        }
+    }
+
+    /**
+     * Gets how often a lootbox has been opened.
+     *
+     * @param lootboxId Lootbox ID
+     * @return Number of openings
+     */
+    public long getOpens(String lootboxId) {
+        return sum(OPENS + '\t' + lootboxId);
+    }
+
+    /**
+     * Gets how often a reward has been won.
+     *
+     * @param lootboxId Lootbox ID
+     * @param itemId Item ID
+     * @return Number of wins
+     */
+    public long getWins(String lootboxId, String itemId) {
+        return sum(REWARD + '\t' + lootboxId + '\t' + itemId);
+    }
+
+    /**
+     * Gets how often a rarity has been won from a lootbox.
+     *
+     * @param lootboxId Lootbox ID
+     * @param rarity Rarity
+     * @return Number of wins
+     */
+    public long getWins(String lootboxId, RewardRarity rarity) {
+        return sum(RARITY + '\t' + lootboxId + '\t' + rarity.name());
+    }
+
+    private LongAdder counter(String key) {
+        return counters.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    private long sum(String key) {
+        LongAdder counter = counters.get(key);
+        return counter != null ? counter.sum() : 0;
+    }
+}
@@ -0,0 +1,122 @@
+package co.RabbitTale.luckyRabbit.user;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.bukkit.scheduler.BukkitRunnable;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+
+/*
+ * KeyGrantTask.java
+ *
+ * Gives keys to many players at once, e.g. after a vote party.
+ * Grants are applied on the main thread in slices so a large batch
+ * never stalls a tick, then the key storage is flushed once.
+ *
+ * Features:
+ * - Time budget per tick
+ * - Progress callback about once a second
+ * - Single storage flush off the main thread at the end
+ * - Future completes with the number of players granted, or fails with
+ *   the partial count if the plugin disables before every grant was applied
+ */
+class KeyGrantTask extends BukkitRunnable {
+
+    private static final long BUDGET_NANOS = 10_000_000L;
+    private static final long REPORT_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final LuckyRabbit plugin;
+    private final KeyLedger ledger;
+    private final KeyStorage storage;
+    private final String lootboxId;
+    private final List<Map.Entry<UUID, Integer>> grants;
+    private final BiConsumer<Integer, Integer> progress;
+    private final CompletableFuture<Integer> result;
+    private final Consumer<KeyGrantTask> onStop;
+    private int done;
+    private long lastReport;
+
+    /**
+     * Creates a grant task.
+     *
+     * @param plugin Plugin instance
+     * @param ledger Ledger to apply the grants to
+     * @param storage Storage to flush at the end
+     * @param grants Keys per player
+     * @param lootboxId Lootbox the keys are for
+     * @param progress Called with (done, total) while running (nullable)
+     * @param onStop Called once the grants are applied or the task was aborted
+     */
+    KeyGrantTask(LuckyRabbit plugin, KeyLedger ledger, KeyStorage storage, Map<UUID, Integer> grants,
+                 String lootboxId, BiConsumer<Integer, Integer> progress, Consumer<KeyGrantTask> onStop) {
+        this.plugin = plugin;
+        this.ledger = ledger;
+        this.storage = storage;
+        this.lootboxId = lootboxId;
+        this.grants = new ArrayList<>(grants.entrySet());
+        this.progress = progress;
+        this.result = new CompletableFuture<>();
+        this.onStop = onStop;
+        this.lastReport = System.nanoTime();
+    }
+
+    /**
+     * Starts applying the grants from the next tick.
+     *
+     * @return Future completed with the number of players granted
+     */
+    CompletableFuture<Integer> start() {
+        runTaskTimer(plugin, 0L, 1L);
+        return result;
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        while (done < grants.size() && System.nanoTime() - start < BUDGET_NANOS) {
+            Map.Entry<UUID, Integer> grant = grants.get(done++);
+            int amount = grant.getValue();
+            ledger.update(grant.getKey(), lootboxId, current -> current + amount);
+        }
+
+        if (done < grants.size()) {
+            long now = System.nanoTime();
+            if (progress != null && now - lastReport >= REPORT_INTERVAL_NANOS) {
+                lastReport = now;
+                progress.accept(done, grants.size());
+            }
+            return;
+        }
+
+        cancel();
+        onStop.accept(this);
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            storage.flush();
+            Logger.debug("Granted " + lootboxId + " keys to " + done + " players");
+            result.complete(done);
+        });
+    }
+
+    /**
+     * Stops a batch that is still being applied, e.g. on plugin disable.
+     * The future fails with the number of players granted so far.
+     * Must be called from the main thread.
+     */
+    void abort() {
+        if (done >= grants.size()) {
+            return;
+        }
+        cancel();
+        onStop.accept(this);
+        Logger.warning("Key grant for " + lootboxId + " stopped after " + done + "/" + grants.size() + " players");
+        result.completeExceptionally(new IllegalStateException(
+                "Stopped after granting keys to " + done + " of " + grants.size() + " players"));
+    }
+}
@@ -0,0 +1,194 @@
+package co.RabbitTale.luckyRabbit.user;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+
+/*
+ * KeyLedger.java
+ *
+ * In-memory key balances in front of the KeyStorage backend.
+ * Safe to use from any thread without global locks.
+ *
+ * Features:
+ * - A player's balances are loaded from storage once, in one read
+ * - Balances are primitive ints indexed by lootbox ordinal (KeyOrdinals),
+ *   held in fixed 16-slot AtomicIntegerArray segments that are never copied
+ * - Compare-and-set updates, concurrent changes are never lost
+ * - tryConsume takes keys only if the whole amount is there
+ * - Writes to the backend are ordered per segment, the last write is always the latest value
+ * - Idle balances of offline players are dropped by the UserManager sweep
+ */
+class KeyLedger {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final KeyStorage storage;
+    private final KeyOrdinals ordinals;
+    private final Map<UUID, PlayerKeys> players;
+
+    /**
+     * Creates a ledger backed by a key storage.
+     *
+     * @param storage Backend the balances are loaded from and written to
+     */
+    KeyLedger(KeyStorage storage) {
+        this.storage = storage;
+        this.ordinals = new KeyOrdinals();
+        this.players = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets a balance.
+     *
+     * @param uuid Player UUID
+     * @param lootboxId Lootbox identifier
+     * @return Number of keys owned
+     */
+    int get(UUID uuid, String lootboxId) {
+        return player(uuid).get(ordinals.of(lootboxId));
+    }
+
+    /**
+     * Applies a change to a balance and writes the result.
+     *
+     * @param uuid Player UUID
+     * @param lootboxId Lootbox identifier
+     * @param update Function from the old to the new balance, may be retried
+     * @return New balance
+     */
+    int update(UUID uuid, String lootboxId, IntUnaryOperator update) {
+        int ordinal = ordinals.of(lootboxId);
+        AtomicIntegerArray segment = player(uuid).segment(ordinal);
+        int index = ordinal & SEGMENT_MASK;
+
+        int result = segment.updateAndGet(index, update);
+        write(uuid, lootboxId, segment, index);
+        return result;
+    }
+
+    /**
+     * Takes keys if the player has at least the given amount.
+     *
+     * @param uuid Player UUID
+     * @param lootboxId Lootbox identifier
+     * @param amount Number of keys to take
+     * @return true if the keys were taken
+     */
+    boolean tryConsume(UUID uuid, String lootboxId, int amount) {
+        if (amount <= 0) {
+            return false;
+        }
+
+        int ordinal = ordinals.of(lootboxId);
+        AtomicIntegerArray segment = player(uuid).segment(ordinal);
+        int index = ordinal & SEGMENT_MASK;
+
+        int current;
+        do {
+            current = segment.get(index);
+            if (current < amount) {
+                return false;
+            }
+        } while (!segment.compareAndSet(index, current, current - amount));
+
+        write(uuid, lootboxId, segment, index);
+        return true;
+    }
+
+    /**
+     * Drops the balances of idle players.
+     *
+     * @param keep Players to keep regardless of idle time (online players)
+     * @param now Current time in milliseconds
+     * @param expireMillis Idle time after which balances are dropped
+     */
+    void evictIdle(Predicate<UUID> keep, long now, long expireMillis) {
+        players.entrySet().removeIf(entry -> !keep.test(entry.getKey())
+                && now - entry.getValue().lastAccess > expireMillis);
+    }
+
+    /**
+     * Gets the number of players with balances in memory.
+     *
+     * @return Resident players
+     */
+    int size() {
+        return players.size();
+    }
+
+    private PlayerKeys player(UUID uuid) {
+        PlayerKeys keys = players.get(uuid);
+        if (keys == null) {
+            // Loaded outside the map, the backend may wait for the main thread
+            PlayerKeys loaded = new PlayerKeys(storage.loadKeys(uuid));
+            keys = players.putIfAbsent(uuid, loaded);
+            if (keys == null) {
+                keys = loaded;
+            }
+        }
+        keys.lastAccess = System.currentTimeMillis();
+        return keys;
+    }
+
+    /**
+     * Writes the current value, so whichever write runs last stores the latest balance.
+     */
+    private void write(UUID uuid, String lootboxId, AtomicIntegerArray segment, int index) {
+        synchronized (segment) {
+            storage.setKeys(uuid, lootboxId, segment.get(index));
+        }
+    }
+
+    /**
+     * Balances of one player, segment = ordinal / 16, slot = ordinal % 16.
+     * Segments are only ever added, so updates never race with a copy.
+     */
+    private final class PlayerKeys {
+
+        private volatile AtomicIntegerArray[] segments;
+        private volatile long lastAccess;
+
+        private PlayerKeys(Map<String, Integer> loaded) {
+            this.segments = new AtomicIntegerArray[(ordinals.size() >>> SEGMENT_BITS) + 1];
+            loaded.forEach((lootboxId, amount) -> {
+                int ordinal = ordinals.of(lootboxId);
+                segment(ordinal).set(ordinal & SEGMENT_MASK, amount);
+            });
+        }
+
+        private int get(int ordinal) {
+            AtomicIntegerArray[] current = segments;
+            int segment = ordinal >>> SEGMENT_BITS;
+            if (segment >= current.length || current[segment] == null) {
+                return 0;
+            }
+            return current[segment].get(ordinal & SEGMENT_MASK);
+        }
+
+        private AtomicIntegerArray segment(int ordinal) {
+            int segment = ordinal >>> SEGMENT_BITS;
+            AtomicIntegerArray[] current = segments;
+            if (segment < current.length && current[segment] != null) {
+                return current[segment];
+            }
+
+            synchronized (this) {
+                current = segments;
+                if (segment < current.length && current[segment] != null) {
+                    return current[segment];
+                }
+                AtomicIntegerArray[] grown = Arrays.copyOf(current, Math.max(current.length, segment + 1));
+                grown[segment] = new AtomicIntegerArray(SEGMENT_SIZE);
+                segments = grown;
+                return grown[segment];
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package co.RabbitTale.luckyRabbit.user;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * KeyOrdinals.java
+ *
+ * Dense ordinal per lootbox ID, used to index the key balance arrays.
+ * Ordinals are handed out on first use and never reused while
+ * the plugin runs, so a balance array never has to be remapped.
+ */
+final class KeyOrdinals {
+
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Gets the ordinal of a lootbox, assigning the next free one if needed.
+     *
+     * @param lootboxId Lootbox identifier
+     * @return Dense ordinal starting at 0
+     */
+    int of(String lootboxId) {
+        Integer ordinal = ordinals.get(lootboxId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        return ordinals.computeIfAbsent(lootboxId, id -> next.getAndIncrement());
+    }
+
+    /**
+     * Gets the number of ordinals handed out.
+     *
+     * @return Ordinal count
+     */
+    int size() {
+        return next.get();
+    }
+}
@@ -0,0 +1,52 @@
+package co.RabbitTale.luckyRabbit.user;
+
+import java.util.Map;
+import java.util.UUID;
+
+/*
+ * KeyStorage.java
+ *
+ * Backend that stores the key balances managed by UserManager.
+ * Selected with storage.type in config.yml.
+ *
+ * Implementations:
+ * - YamlKeyStorage: keys section of playerdata/<uuid>.yml (legacy)
+ * - SqliteKeyStorage: one row per player and lootbox in keys.db
+ */
+public interface KeyStorage {
+
+    /**
+     * Loads every key balance of a player.
+     *
+     * @param uuid Player UUID
+     * @return Keys owned per lootbox identifier
+     */
+    Map<String, Integer> loadKeys(UUID uuid);
+
+    /**
+     * Sets the number of keys a player has for a lootbox.
+     * The new balance is visible right away, it may be written later.
+     *
+     * @param uuid Player UUID
+     * @param lootboxId Lootbox identifier
+     * @param amount New amount of keys
+     */
+    void setKeys(UUID uuid, String lootboxId, int amount);
+
+    /**
+     * Writes every pending change to disk.
+     */
+    void flush();
+
+    /**
+     * Writes pending changes and releases the backend.
+     */
+    void close();
+
+    /**
+     * Gets the name used in storage.type.
+     *
+     * @return Backend name
+     */
+    String getName();
+}
@@ -0,0 +1,233 @@
+package co.RabbitTale.luckyRabbit.user;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+
+/*
+ * SqliteKeyStorage.java
+ *
+ * Key storage in a single SQLite database (keys.db).
+ * Each balance is one row, so a change never rewrites more than that row.
+ *
+ * Features:
+ * - Rows indexed by (uuid, lootbox_id), a player loads with one range read
+ * - WAL mode, reads don't wait for the writer
+ * - Changes are visible at once and written in one transaction per second
+ * - Separate connections for main thread reads and background writes
+ * - Imports the YAML balances once when the database is created
+ */
+class SqliteKeyStorage implements KeyStorage {
+
+    private static final long FLUSH_INTERVAL = 20L;
+
+    private final LuckyRabbit plugin;
+    private final Connection readConnection;
+    private final Connection writeConnection;
+    private final PreparedStatement selectStatement;
+    private final PreparedStatement upsertStatement;
+    private final Map<KeyId, Integer> pending;
+    private int flushTaskId = -1;
+
+    /**
+     * Opens (or creates) the key database.
+     *
+     * @param plugin Plugin instance
+     * @param userDirectory Legacy playerdata directory to import from
+     * @throws SQLException if the database can't be opened
+     */
+    SqliteKeyStorage(LuckyRabbit plugin, File userDirectory) throws SQLException {
+        this.plugin = plugin;
+        this.pending = new ConcurrentHashMap<>();
+
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("SQLite driver not available", e);
+        }
+
+        String url = "jdbc:sqlite:" + new File(plugin.getDataFolder(), "keys.db").getAbsolutePath();
+        this.writeConnection = open(url);
+        boolean created;
+        try (Statement statement = writeConnection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+
+            // Table and import commit together, a failed import is retried next start
+            writeConnection.setAutoCommit(false);
+            try (ResultSet table = statement.executeQuery(
+                    "SELECT name FROM sqlite_master WHERE type = 'table' AND name = 'lootbox_keys'")) {
+                created = !table.next();
+            }
+            statement.execute("CREATE TABLE IF NOT EXISTS lootbox_keys ("
+                    + "uuid TEXT NOT NULL, "
+                    + "lootbox_id TEXT NOT NULL, "
+                    + "amount INTEGER NOT NULL, "
+                    + "PRIMARY KEY (uuid, lootbox_id)) WITHOUT ROWID");
+        }
+        this.upsertStatement = writeConnection.prepareStatement(
+                "INSERT INTO lootbox_keys (uuid, lootbox_id, amount) VALUES (?, ?, ?) "
+                + "ON CONFLICT (uuid, lootbox_id) DO UPDATE SET amount = excluded.amount");
+
+        if (created) {
+            importYaml(userDirectory);
+        }
+        writeConnection.commit();
+
+        this.readConnection = open(url);
+        this.selectStatement = readConnection.prepareStatement(
+                "SELECT lootbox_id, amount FROM lootbox_keys WHERE uuid = ?");
+
+        flushTaskId = plugin.getServer().getScheduler()
+                .runTaskTimerAsynchronously(plugin, this::flush, FLUSH_INTERVAL, FLUSH_INTERVAL)
+                .getTaskId();
+    }
+
+    private static Connection open(String url) throws SQLException {
+        Connection connection = DriverManager.getConnection(url);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA synchronous=NORMAL");
+            statement.execute("PRAGMA busy_timeout=5000");
+        }
+        return connection;
+    }
+
+    /**
+     * Copies the keys section of every player file into the new database.
+     */
+    private void importYaml(File userDirectory) throws SQLException {
+        File[] files = userDirectory.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files == null || files.length == 0) {
+            return;
+        }
+
+        Logger.info("Importing key balances from " + files.length + " player files...");
+        int rows = 0;
+        for (File file : files) {
+            String uuid = file.getName().substring(0, file.getName().length() - 4);
+            ConfigurationSection keys = YamlConfiguration.loadConfiguration(file).getConfigurationSection("keys");
+            if (keys == null) {
+                continue;
+            }
+            for (String lootboxId : keys.getKeys(false)) {
+                upsertStatement.setString(1, uuid);
+                upsertStatement.setString(2, lootboxId);
+                upsertStatement.setInt(3, keys.getInt(lootboxId));
+                upsertStatement.addBatch();
+                rows++;
+            }
+        }
+        upsertStatement.executeBatch();
+        Logger.success("Imported " + rows + " key balances into keys.db");
+    }
+
+    @Override
+    public Map<String, Integer> loadKeys(UUID uuid) {
+        // Taken before the read, a flush in between then can't hide a change
+        Map<String, Integer> unwritten = new HashMap<>();
+        pending.forEach((key, amount) -> {
+            if (key.uuid().equals(uuid)) {
+                unwritten.put(key.lootboxId(), amount);
+            }
+        });
+
+        Map<String, Integer> keys = new HashMap<>();
+        synchronized (selectStatement) {
+            try {
+                selectStatement.setString(1, uuid.toString());
+                try (ResultSet result = selectStatement.executeQuery()) {
+                    while (result.next()) {
+                        keys.put(result.getString(1), result.getInt(2));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Failed to read keys of " + uuid, e);
+            }
+        }
+
+        // Changes not written yet override the stored rows
+        keys.putAll(unwritten);
+        return keys;
+    }
+
+    @Override
+    public void setKeys(UUID uuid, String lootboxId, int amount) {
+        pending.put(new KeyId(uuid, lootboxId), amount);
+    }
+
+    /**
+     * Writes all pending balances in one transaction. Balances changed
+     * again while writing stay pending for the next flush.
+     */
+    @Override
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<KeyId, Integer> batch = new HashMap<>(pending);
+        try {
+            for (Map.Entry<KeyId, Integer> entry : batch.entrySet()) {
+                upsertStatement.setString(1, entry.getKey().uuid().toString());
+                upsertStatement.setString(2, entry.getKey().lootboxId());
+                upsertStatement.setInt(3, entry.getValue());
+                upsertStatement.addBatch();
+            }
+            upsertStatement.executeBatch();
+            writeConnection.commit();
+        } catch (SQLException e) {
+            Logger.error("Failed to write " + batch.size() + " key balances, retrying next flush", e);
+            try {
+                upsertStatement.clearBatch();
+                writeConnection.rollback();
+            } catch (SQLException rollback) {
+                Logger.error("Failed to roll back key balances", rollback);
+            }
+            return;
+        }
+
+        batch.forEach(pending::remove);
+    }
+
+    @Override
+    public void close() {
+        if (flushTaskId != -1) {
+            plugin.getServer().getScheduler().cancelTask(flushTaskId);
+            flushTaskId = -1;
+        }
+        flush();
+
+        try {
+            selectStatement.close();
+            upsertStatement.close();
+            readConnection.close();
+            writeConnection.close();
+        } catch (SQLException e) {
+            Logger.error("Failed to close key database", e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "sqlite";
+    }
+
+    /**
+     * Row key of a balance.
+     */
+    private record KeyId(UUID uuid, String lootboxId) {
+    }
+}
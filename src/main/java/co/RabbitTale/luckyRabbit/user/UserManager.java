@@ -1,17 +1,29 @@
 package co.RabbitTale.luckyRabbit.user;
 
 import java.io.File;
-import java.io.IOException;
+import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
 
 import co.RabbitTale.luckyRabbit.LuckyRabbit;
 import co.RabbitTale.luckyRabbit.lootbox.Lootbox;
 import co.RabbitTale.luckyRabbit.utils.Logger;
+import co.RabbitTale.luckyRabbit.utils.SafeFiles;
+import co.RabbitTale.luckyRabbit.utils.SaveQueue;
 
 /*
  * UserManager.java
@@ -23,14 +35,24 @@ import co.RabbitTale.luckyRabbit.utils.Logger;
  * Features:
  * - Per-user configuration files in YAML format
  * - Automatic data loading and saving
- * - Lootbox key management system
+ * - Lootbox key management system, stored through a KeyStorage backend
+ * - Key balances in a lock-free KeyLedger, safe from any thread
+ *   (int arrays indexed by lootbox ordinal, storage only read on first use)
+ * - Batched key grants for many players (KeyGrantTask)
+ * - Player preferences (instant opening)
  * - Memory-efficient data handling with unloading
  *
  * Data Structure:
  * - Each user has their own YAML file in playerdata/
  * - Files are named using player UUID
- * - Data is loaded on demand and cached in memory
- * - Automatic cleanup of unused data
+ * - Saves are written in the background, crash-safe (SafeFiles),
+ *   and a damaged file is restored from its backup on load
+ * - Data is loaded on demand, nothing is read at startup
+ * - Online players stay in memory until they quit
+ * - Data is prefetched off the main thread while a player logs in
+ * - Offline players are cached with size (player-cache.max-size)
+ *   and idle time (player-cache.expire-minutes) limits
+ * - Hit rate and cache size metrics via getCacheStats()
  *
  * File Structure:
  * playerdata/
@@ -41,19 +63,38 @@ import co.RabbitTale.luckyRabbit.utils.Logger;
  */
 public class UserManager {
 
+    private static final long SWEEP_INTERVAL = 20L * 60;
+
     private final LuckyRabbit plugin;
-    private final Map<UUID, FileConfiguration> userConfigs;
+    private final Map<UUID, FileConfiguration> onlineConfigs;
+    private final LinkedHashMap<UUID, CachedUser> cachedConfigs;
+    private final Map<UUID, CachedUser> prefetchedConfigs;
     private final File userDirectory;
+    private final SaveQueue saveQueue;
+    private final KeyStorage keyStorage;
+    private final KeyLedger keyLedger;
+    private final Set<KeyGrantTask> grantTasks = ConcurrentHashMap.newKeySet();
+    private final int maxCached;
+    private final long expireMillis;
+    private long hits;
+    private long misses;
+    private long evictions;
 
     /**
      * Initializes the UserManager and creates necessary directories.
+     * Player data is loaded on demand, not at startup.
      *
      * @param plugin The LuckyRabbit plugin instance
      */
     public UserManager(LuckyRabbit plugin) {
         this.plugin = plugin;
-        this.userConfigs = new HashMap<>();
+        this.onlineConfigs = new HashMap<>();
+        this.cachedConfigs = new LinkedHashMap<>(16, 0.75f, true);
+        this.prefetchedConfigs = new ConcurrentHashMap<>();
         this.userDirectory = new File(plugin.getDataFolder(), "playerdata");
+        this.saveQueue = new SaveQueue("LuckyRabbit-UserSave", plugin.getConfig().getBoolean("storage.fsync", true));
+        this.maxCached = Math.max(plugin.getConfig().getInt("settings.player-cache.max-size", 1000), 1);
+        this.expireMillis = Math.max(plugin.getConfig().getLong("settings.player-cache.expire-minutes", 10), 1) * 60_000L;
 
         if (!userDirectory.exists()) {
             if (!userDirectory.mkdirs()) {
@@ -63,69 +104,51 @@ public class UserManager {
             }
         }
 
-        loadAllPlayerData();
-    }
+        this.keyStorage = createKeyStorage();
+        this.keyLedger = new KeyLedger(keyStorage);
 
-    /**
-     * Loads all player data files from disk. Called during initialization to
-     * populate the cache.
-     */
-    private void loadAllPlayerData() {
-        if (userDirectory.exists()) {
-            File[] files = userDirectory.listFiles((dir, name) -> name.endsWith(".yml"));
-            if (files != null) {
-                for (File file : files) {
-                    String fileName = file.getName();
-                    String uuidStr = fileName.substring(0, fileName.length() - 4);
-                    try {
-                        UUID uuid = UUID.fromString(uuidStr);
-                        loadUserData(uuid);
-                        Logger.debug("Loaded data for player: " + uuidStr);
-                    } catch (IllegalArgumentException e) {
-                        Logger.error("Invalid player data file name: " + fileName);
-                    }
-                }
-            }
+        // Players already online, e.g. after a plugin reload
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            loadUserData(player.getUniqueId());
         }
+
+        plugin.getServer().getScheduler().runTaskTimer(plugin, this::sweep, SWEEP_INTERVAL, SWEEP_INTERVAL);
     }
 
     /**
      * Gets the number of keys a player has for a specific lootbox.
+     * Safe to call from any thread.
      *
      * @param uuid Player UUID
      * @param lootboxId Lootbox identifier
      * @return Number of keys owned
      */
     public int getKeys(UUID uuid, String lootboxId) {
-        FileConfiguration config = getUserConfig(uuid);
-
-        if (!config.contains("keys")) {
-            Logger.debug("No keys section found for user " + uuid);
-            return 0;
+        int keys = keyLedger.get(uuid, lootboxId);
+        if (Logger.isDebugEnabled()) {
+            Logger.debug("Getting keys for " + uuid + " lootbox: " + lootboxId + " amount: " + keys);
         }
-
-        int keys = config.getInt("keys." + lootboxId, 0);
-        Logger.debug("Getting keys for " + uuid + " lootbox: " + lootboxId + " amount: " + keys);
         return keys;
     }
 
     /**
      * Sets the number of keys a player has for a specific lootbox.
+     * Safe to call from any thread.
      *
      * @param uuid Player UUID
      * @param lootboxId Lootbox identifier
      * @param amount New amount of keys
      */
     public void setKeys(UUID uuid, String lootboxId, int amount) {
-        FileConfiguration config = getUserConfig(uuid);
-        config.set("keys." + lootboxId, amount);
-        saveUserConfig(uuid);
-        Logger.debug("Set " + amount + " keys for " + uuid + " lootbox: " + lootboxId);
+        keyLedger.update(uuid, lootboxId, current -> amount);
+        if (Logger.isDebugEnabled()) {
+            Logger.debug("Set " + amount + " keys for " + uuid + " lootbox: " + lootboxId);
+        }
     }
 
     /**
      * Adds keys to a player's inventory. Validates lootbox existence before
-     * adding.
+     * adding. Safe to call from any thread.
      *
      * @param uuid Player UUID
      * @param lootboxId Lootbox identifier
@@ -138,24 +161,55 @@ public class UserManager {
             throw new IllegalArgumentException("Lootbox with ID " + lootboxId + " does not exist!");
         }
 
-        int current = getKeys(uuid, lootboxId);
-        setKeys(uuid, lootboxId, current + amount);
+        int newAmount = keyLedger.update(uuid, lootboxId, current -> current + amount);
+        if (Logger.isDebugEnabled()) {
+            Logger.debug("Added " + amount + " keys for " + uuid + " lootbox: " + lootboxId + " new total: " + newAmount);
+        }
+    }
 
-        Logger.debug("Added " + amount + " keys for " + uuid + " lootbox: " + lootboxId + " new total: " + (current + amount));
+    /**
+     * Adds keys to many players in one batch. The grants are spread over
+     * ticks on the main thread and the key storage is flushed once at the end.
+     * Safe to call from any thread.
+     *
+     * @param grants Keys to add per player
+     * @param lootboxId Lootbox identifier
+     * @param progress Called with (done, total) about once a second (nullable)
+     * @return Future completed with the number of players granted, failed
+     *         if the plugin disables before every grant was applied
+     * @throws IllegalArgumentException if lootbox doesn't exist or an amount is not positive
+     */
+    public CompletableFuture<Integer> addKeys(Map<UUID, Integer> grants, String lootboxId,
+                                              BiConsumer<Integer, Integer> progress) {
+        Lootbox lootbox = plugin.getLootboxManager().getLootbox(lootboxId);
+        if (lootbox == null) {
+            throw new IllegalArgumentException("Lootbox with ID " + lootboxId + " does not exist!");
+        }
+        for (Map.Entry<UUID, Integer> grant : grants.entrySet()) {
+            if (grant.getValue() == null || grant.getValue() <= 0) {
+                throw new IllegalArgumentException("Key amount for " + grant.getKey() + " must be greater than 0!");
+            }
+        }
+
+        KeyGrantTask task = new KeyGrantTask(plugin, keyLedger, keyStorage, grants, lootboxId, progress,
+                grantTasks::remove);
+        grantTasks.add(task);
+        return task.start();
     }
 
     /**
      * Removes keys from a player's inventory. Won't go below zero.
+     * Safe to call from any thread.
      *
      * @param uuid Player UUID
      * @param lootboxId Lootbox identifier
      * @param amount Number of keys to remove
      */
     public void removeKeys(UUID uuid, String lootboxId, int amount) {
-        int current = getKeys(uuid, lootboxId);
-        int newAmount = Math.max(0, current - amount);
-        setKeys(uuid, lootboxId, newAmount);
-        Logger.debug("Removed " + amount + " keys from " + uuid + " lootbox: " + lootboxId + " new total: " + newAmount);
+        int newAmount = keyLedger.update(uuid, lootboxId, current -> Math.max(0, current - amount));
+        if (Logger.isDebugEnabled()) {
+            Logger.debug("Removed " + amount + " keys from " + uuid + " lootbox: " + lootboxId + " new total: " + newAmount);
+        }
     }
 
     /**
@@ -170,13 +224,32 @@ public class UserManager {
     }
 
     /**
-     * Uses one key from a player's inventory. Equivalent to removing one key.
+     * Uses one key from a player's inventory.
+     *
+     * @param uuid Player UUID
+     * @param lootboxId Lootbox identifier
+     * @return true if a key was used, false if the player has none
+     */
+    public boolean useKey(UUID uuid, String lootboxId) {
+        return tryConsume(uuid, lootboxId, 1);
+    }
+
+    /**
+     * Atomically uses keys if the player has enough. Concurrent callers
+     * (double clicks, other plugins' threads) can never take more keys
+     * than the player owns.
      *
      * @param uuid Player UUID
      * @param lootboxId Lootbox identifier
+     * @param amount Number of keys to use
+     * @return true if the keys were taken, false if the player has too few
      */
-    public void useKey(UUID uuid, String lootboxId) {
-        removeKeys(uuid, lootboxId, 1);
+    public boolean tryConsume(UUID uuid, String lootboxId, int amount) {
+        boolean consumed = keyLedger.tryConsume(uuid, lootboxId, amount);
+        if (Logger.isDebugEnabled()) {
+            Logger.debug((consumed ? "Used " : "Could not use ") + amount + " keys of " + uuid + " lootbox: " + lootboxId);
+        }
+        return consumed;
     }
 
     /**
@@ -191,90 +264,299 @@ public class UserManager {
     }
 
     /**
-     * Gets or loads a player's configuration. Creates new config if none
-     * exists.
+     * Checks if a player prefers opening lootboxes without the animation.
+     *
+     * @param uuid Player UUID
+     * @return true if instant opening is enabled
+     */
+    public boolean isInstantOpen(UUID uuid) {
+        return getUserConfig(uuid).getBoolean("settings.instant-open", false);
+    }
+
+    /**
+     * Sets whether a player opens lootboxes without the animation.
+     *
+     * @param uuid Player UUID
+     * @param instantOpen New preference
+     */
+    public void setInstantOpen(UUID uuid, boolean instantOpen) {
+        FileConfiguration config = getUserConfig(uuid);
+        config.set("settings.instant-open", instantOpen);
+        saveUserConfig(uuid, config);
+        Logger.debug("Set instant open to " + instantOpen + " for " + uuid);
+    }
+
+    /**
+     * Gets or loads a player's configuration. Online players are always
+     * in memory, offline players go through the bounded cache.
      *
      * @param uuid Player UUID
      * @return Player's configuration
      */
-    private FileConfiguration getUserConfig(UUID uuid) {
-        FileConfiguration config = userConfigs.get(uuid);
-        if (config == null) {
-            loadUserData(uuid);
-            config = userConfigs.get(uuid);
+    FileConfiguration getUserConfig(UUID uuid) {
+        FileConfiguration config = onlineConfigs.get(uuid);
+        if (config != null) {
+            hits++;
+            return config;
         }
+
+        long now = System.currentTimeMillis();
+        CachedUser cached = cachedConfigs.get(uuid);
+        if (cached != null && !cached.isExpired(now, expireMillis)) {
+            hits++;
+            cached.touch(now);
+            return cached.config;
+        }
+
+        misses++;
+        config = readUserConfig(uuid);
+        cachedConfigs.put(uuid, new CachedUser(config, now));
+        trimCache();
         return config;
     }
 
     /**
-     * Saves a player's configuration to disk.
+     * Reads a player's file, or returns an empty configuration
+     * for players without one. Safe to call from any thread.
      *
      * @param uuid Player UUID
+     * @return Player's configuration
      */
-    private void saveUserConfig(UUID uuid) {
-        FileConfiguration config = userConfigs.get(uuid);
-        if (config == null) {
-            return;
+    private FileConfiguration readUserConfig(UUID uuid) {
+        File userFile = new File(userDirectory, uuid + ".yml");
+
+        // A save may still be queued, the file would be out of date
+        String pending = saveQueue.getPending(userFile);
+        if (pending != null) {
+            YamlConfiguration config = new YamlConfiguration();
+            try {
+                config.loadFromString(pending);
+                return config;
+            } catch (InvalidConfigurationException e) {
+                Logger.error("Failed to read queued data of user: " + uuid, e);
+            }
         }
 
-        try {
-            File userFile = new File(userDirectory, uuid.toString() + ".yml");
-            config.save(userFile);
-            Logger.debug("Saved config for user: " + uuid + " to " + userFile.getAbsolutePath());
-        } catch (IOException e) {
-            Logger.error("Failed to save user config: " + uuid, e);
+        if (userFile.exists() || SafeFiles.hasBackup(userFile)) {
+            Logger.debug("Loaded data for user: " + uuid);
+            return SafeFiles.loadYaml(userFile);
         }
+        Logger.debug("Created new data for user: " + uuid);
+        return new YamlConfiguration();
+    }
+
+    /**
+     * Saves a player's configuration to disk. Takes the configuration
+     * that was changed, it may have been evicted from the cache already.
+     *
+     * @param uuid Player UUID
+     * @param config Configuration from getUserConfig
+     */
+    void saveUserConfig(UUID uuid, FileConfiguration config) {
+        // A prefetched copy is older than this change now
+        prefetchedConfigs.remove(uuid);
+
+        File userFile = new File(userDirectory, uuid.toString() + ".yml");
+        saveQueue.write(userFile, config.saveToString());
+        Logger.debug("Queued save of user: " + uuid + " to " + userFile.getAbsolutePath());
     }
 
     /**
-     * Saves all loaded user configurations to disk. Called during plugin
-     * shutdown and periodic saves.
+     * Saves all loaded user configurations and pending key balances to disk.
+     * Called during plugin shutdown and periodic saves.
      */
     public void saveAllUsers() {
         Logger.debug("Saving all user configurations...");
-        for (Map.Entry<UUID, FileConfiguration> entry : userConfigs.entrySet()) {
+        keyStorage.flush();
+        Map<UUID, FileConfiguration> loaded = new HashMap<>(onlineConfigs);
+        cachedConfigs.forEach((uuid, cached) -> loaded.putIfAbsent(uuid, cached.config));
+        for (Map.Entry<UUID, FileConfiguration> entry : loaded.entrySet()) {
+            UUID uuid = entry.getKey();
+            saveQueue.write(new File(userDirectory, uuid + ".yml"), entry.getValue().saveToString());
+            Logger.debug("Saved configuration for user: " + uuid);
+        }
+        saveQueue.await();
+        Logger.info("All user configurations saved successfully");
+    }
+
+    /**
+     * Blocks until every key balance handed to the key storage so far
+     * is on disk. Used by the open journal before it records an opening.
+     */
+    public void syncKeys() {
+        keyStorage.flush();
+        saveQueue.await();
+    }
+
+    /**
+     * Creates the key storage selected by storage.type.
+     * Falls back to YAML if the database can't be opened.
+     *
+     * @return Key storage backend
+     */
+    private KeyStorage createKeyStorage() {
+        String type = plugin.getConfig().getString("storage.type", "yaml");
+        if (type.equalsIgnoreCase("sqlite")) {
             try {
-                UUID uuid = entry.getKey();
-                FileConfiguration config = entry.getValue();
-                File userFile = new File(userDirectory, uuid + ".yml");
-                config.save(userFile);
-                Logger.debug("Saved configuration for user: " + uuid);
-            } catch (IOException e) {
-                Logger.error("Failed to save user config", e);
+                KeyStorage storage = new SqliteKeyStorage(plugin, userDirectory);
+                Logger.debug("Using SQLite key storage");
+                return storage;
+            } catch (SQLException e) {
+                Logger.error("Failed to open key database, falling back to YAML", e);
             }
+        } else if (!type.equalsIgnoreCase("yaml")) {
+            Logger.warning("Unknown storage type " + type + ", using YAML");
         }
-        Logger.info("All user configurations saved successfully");
+        return new YamlKeyStorage(plugin, this);
     }
 
     /**
-     * Loads or creates user data for a player.
+     * Stops unfinished key grants, writes pending key balances and user files,
+     * then closes the key storage. Called once during plugin shutdown.
+     */
+    public void close() {
+        // Grants still being applied can't finish, tell their callers how far they got
+        for (KeyGrantTask task : List.copyOf(grantTasks)) {
+            task.abort();
+        }
+        keyStorage.close();
+        saveQueue.shutdown();
+    }
+
+    /**
+     * Reads a player's data ahead of the join. Called from
+     * AsyncPlayerPreLoginEvent, so it runs off the main thread.
+     *
+     * @param uuid Player UUID
+     */
+    public void prefetch(UUID uuid) {
+        prefetchedConfigs.put(uuid, new CachedUser(readUserConfig(uuid), System.currentTimeMillis()));
+    }
+
+    /**
+     * Loads user data for a joining player and keeps it in memory
+     * until they quit. Uses the cached or prefetched copy if there is one.
      *
      * @param uuid Player UUID
      */
     public void loadUserData(UUID uuid) {
-        File userFile = new File(userDirectory, uuid + ".yml");
-        if (userFile.exists()) {
-            FileConfiguration config = YamlConfiguration.loadConfiguration(userFile);
-            userConfigs.put(uuid, config);
-            Logger.debug("Loaded data for user: " + uuid);
+        if (onlineConfigs.containsKey(uuid)) {
+            return;
+        }
+
+        // The cache is kept up to date on every change, prefer it over the prefetch
+        CachedUser prefetched = prefetchedConfigs.remove(uuid);
+        CachedUser cached = cachedConfigs.remove(uuid);
+        FileConfiguration config;
+        if (cached != null) {
+            hits++;
+            config = cached.config;
+        } else if (prefetched != null) {
+            hits++;
+            config = prefetched.config;
         } else {
-            FileConfiguration config = new YamlConfiguration();
-            userConfigs.put(uuid, config);
-            Logger.debug("Created new data for user: " + uuid);
-            saveUserConfig(uuid);
+            misses++;
+            config = readUserConfig(uuid);
         }
+        onlineConfigs.put(uuid, config);
     }
 
     /**
-     * Unloads user data from memory. Saves data before unloading.
+     * Moves a leaving player's data into the offline cache.
+     * Changes are saved as they happen, so nothing is written here.
      *
      * @param uuid Player UUID
      */
     public void unloadUserData(UUID uuid) {
-        if (userConfigs.containsKey(uuid)) {
-            saveUserConfig(uuid);
-            userConfigs.remove(uuid);
+        FileConfiguration config = onlineConfigs.remove(uuid);
+        prefetchedConfigs.remove(uuid);
+        if (config != null) {
+            cachedConfigs.put(uuid, new CachedUser(config, System.currentTimeMillis()));
+            trimCache();
             Logger.debug("Unloaded data for user: " + uuid);
         }
     }
+
+    /**
+     * Evicts the least recently used offline players above the size limit.
+     */
+    private void trimCache() {
+        Iterator<CachedUser> iterator = cachedConfigs.values().iterator();
+        while (cachedConfigs.size() > maxCached && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Evicts expired offline players and abandoned prefetches.
+     */
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        int before = cachedConfigs.size();
+        cachedConfigs.values().removeIf(cached -> cached.isExpired(now, expireMillis));
+        evictions += before - cachedConfigs.size();
+        prefetchedConfigs.values().removeIf(cached -> cached.isExpired(now, expireMillis));
+        keyLedger.evictIdle(onlineConfigs::containsKey, now, expireMillis);
+
+        CacheStats stats = getCacheStats();
+        Logger.debug("Player cache: " + stats.online() + " online, " + stats.cached() + " cached, "
+                + String.format("%.1f", stats.hitRate() * 100) + "% hit rate, " + stats.evictions() + " evictions");
+    }
+
+    /**
+     * Gets player data cache metrics.
+     *
+     * @return Current cache statistics
+     */
+    public CacheStats getCacheStats() {
+        return new CacheStats(onlineConfigs.size(), cachedConfigs.size(), prefetchedConfigs.size(),
+                hits, misses, evictions);
+    }
+
+    /**
+     * Player data cache metrics.
+     *
+     * @param online Players held while online
+     * @param cached Offline players in the cache
+     * @param prefetched Prefetched players waiting to join
+     * @param hits Lookups served from memory
+     * @param misses Lookups that read a file
+     * @param evictions Offline players dropped by size or age
+     */
+    public record CacheStats(int online, int cached, int prefetched, long hits, long misses, long evictions) {
+
+        /**
+         * Gets the share of lookups served from memory.
+         *
+         * @return Hit rate between 0 and 1
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    /**
+     * Cached configuration with its last access time.
+     */
+    private static final class CachedUser {
+
+        private final FileConfiguration config;
+        private long lastAccess;
+
+        private CachedUser(FileConfiguration config, long now) {
+            this.config = config;
+            this.lastAccess = now;
+        }
+
+        private void touch(long now) {
+            lastAccess = now;
+        }
+
+        private boolean isExpired(long now, long expireMillis) {
+            return now - lastAccess > expireMillis;
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package co.RabbitTale.luckyRabbit.user;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import co.RabbitTale.luckyRabbit.LuckyRabbit;
+import co.RabbitTale.luckyRabbit.utils.Logger;
+
+/*
+ * YamlKeyStorage.java
+ *
+ * Legacy key storage in the keys section of each player's file.
+ * Goes through the UserManager player data cache and
+ * rewrites the player's file on every change.
+ * The player data cache is main thread only, calls from
+ * other threads are handed to the main thread.
+ * Every balance goes through the pending map and the task applying it
+ * takes the latest one, so a write handed over earlier can never
+ * overwrite a newer balance.
+ */
+class YamlKeyStorage implements KeyStorage {
+
+    private final LuckyRabbit plugin;
+    private final UserManager userManager;
+    private final Map<Balance, Integer> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the YAML key storage.
+     *
+     * @param plugin Plugin instance
+     * @param userManager Manager holding the player files
+     */
+    YamlKeyStorage(LuckyRabbit plugin, UserManager userManager) {
+        this.plugin = plugin;
+        this.userManager = userManager;
+    }
+
+    @Override
+    public Map<String, Integer> loadKeys(UUID uuid) {
+        if (!Bukkit.isPrimaryThread()) {
+            try {
+                return Bukkit.getScheduler().callSyncMethod(plugin, () -> loadKeys(uuid)).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while loading keys of " + uuid, e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to load keys of " + uuid, e.getCause());
+            }
+        }
+
+        Map<String, Integer> keys = new HashMap<>();
+        ConfigurationSection section = userManager.getUserConfig(uuid).getConfigurationSection("keys");
+        if (section == null) {
+            Logger.debug("No keys section found for user " + uuid);
+            return keys;
+        }
+        for (String lootboxId : section.getKeys(false)) {
+            keys.put(lootboxId, section.getInt(lootboxId));
+        }
+        return keys;
+    }
+
+    @Override
+    public void setKeys(UUID uuid, String lootboxId, int amount) {
+        Balance balance = new Balance(uuid, lootboxId);
+        pending.put(balance, amount);
+        if (Bukkit.isPrimaryThread()) {
+            apply(balance);
+        } else {
+            Bukkit.getScheduler().runTask(plugin, () -> apply(balance));
+        }
+    }
+
+    /**
+     * Writes the latest pending balance, if a newer write hasn't already.
+     * Main thread only.
+     */
+    private void apply(Balance balance) {
+        Integer amount = pending.remove(balance);
+        if (amount == null) {
+            return;
+        }
+        FileConfiguration config = userManager.getUserConfig(balance.uuid());
+        config.set("keys." + balance.lootboxId(), amount);
+        userManager.saveUserConfig(balance.uuid(), config);
+    }
+
+    @Override
+    public void flush() {
+        // Changes are queued for saving right away, only handed-over ones may wait
+        if (Bukkit.isPrimaryThread()) {
+            pending.keySet().forEach(this::apply);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+
+    @Override
+    public String getName() {
+        return "yaml";
+    }
+
+    private record Balance(UUID uuid, String lootboxId) {
+    }
+}
@@ -68,6 +68,16 @@ public class Logger {
         }
     }
 
+    /**
+     * Checks if debug mode is enabled. Lets hot paths skip
+     * building debug messages that would not be shown.
+     *
+     * @return true if debug messages are logged
+     */
+    public static boolean isDebugEnabled() {
+        return debugEnabled;
+    }
+
     /**
      * Gets caller information for debug messages. Returns file name and line
      * number of the calling method.
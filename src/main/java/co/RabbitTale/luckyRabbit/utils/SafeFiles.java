@@ -0,0 +1,195 @@
+package co.RabbitTale.luckyRabbit.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+/*
+ * SafeFiles.java
+ *
+ * Crash-safe replacement of plugin data files. A file on disk is
+ * always either the old or the new version, never half written.
+ *
+ * Writing (file.yml):
+ * - Data goes to file.yml.tmp first, optionally fsynced
+ * - The current file is kept as file.yml.bak (hard link, copy if unsupported)
+ * - file.yml.tmp is renamed over file.yml in one atomic step
+ * - The directory is fsynced so the rename survives a power loss
+ *
+ * Loading:
+ * - A file that is missing, empty or not valid YAML is replaced by its backup
+ * - The damaged file is kept as file.yml.corrupt for inspection
+ */
+public final class SafeFiles {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String BACKUP_SUFFIX = ".bak";
+    private static final String CORRUPT_SUFFIX = ".corrupt";
+
+    private SafeFiles() {
+    }
+
+    /**
+     * Replaces a file in one step.
+     *
+     * @param file Target file
+     * @param data Complete file contents
+     * @param sync Whether to fsync before the file is replaced
+     * @throws IOException if the file can't be written
+     */
+    public static void write(File file, String data, boolean sync) throws IOException {
+        writeTemp(file, data, sync);
+        commit(file);
+        if (sync) {
+            syncDirectory(file.getAbsoluteFile().getParentFile());
+        }
+    }
+
+    /**
+     * Writes the new contents next to the file, without touching it yet.
+     * Part of a group commit, followed by {@link #commit(File)}.
+     *
+     * @param file Target file
+     * @param data Complete file contents
+     * @param sync Whether to fsync the temporary file
+     * @throws IOException if the file can't be written
+     */
+    public static void writeTemp(File file, String data, boolean sync) throws IOException {
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(data);
+        try (FileChannel channel = FileChannel.open(temp(file), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (sync) {
+                channel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Keeps the current file as backup and moves the written temporary file over it.
+     *
+     * @param file Target file
+     * @throws IOException if the file can't be replaced
+     */
+    public static void commit(File file) throws IOException {
+        Path target = file.toPath();
+        if (Files.exists(target)) {
+            Path backup = backup(file);
+            Files.deleteIfExists(backup);
+            try {
+                Files.createLink(backup, target);
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(target, backup, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        try {
+            Files.move(temp(file), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp(file), target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes a file together with its backup and temporary file.
+     *
+     * @param file File to delete
+     * @throws IOException if the file can't be deleted
+     */
+    public static void delete(File file) throws IOException {
+        Files.deleteIfExists(file.toPath());
+        Files.deleteIfExists(backup(file));
+        Files.deleteIfExists(temp(file));
+    }
+
+    /**
+     * Flushes a directory, making renames in it durable. Silently skipped
+     * on platforms that can't open directories (Windows).
+     *
+     * @param directory Directory to flush
+     */
+    public static void syncDirectory(File directory) {
+        try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Not supported here, the rename is still atomic
+        }
+    }
+
+    /**
+     * Checks if a backup of a file exists, e.g. to recover a file that went missing.
+     *
+     * @param file File to check
+     * @return true if there is a backup
+     */
+    public static boolean hasBackup(File file) {
+        return Files.exists(backup(file));
+    }
+
+    /**
+     * Loads a YAML file, recovering from the backup if the file is damaged.
+     *
+     * @param file File to load
+     * @return Loaded configuration, empty if there is no usable copy
+     */
+    public static YamlConfiguration loadYaml(File file) {
+        File backup = backup(file).toFile();
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            if (file.exists() && (file.length() > 0 || !backup.exists())) {
+                config.load(file);
+                return config;
+            }
+        } catch (IOException | InvalidConfigurationException e) {
+            Logger.warning("Failed to read " + file.getName() + ": " + e.getMessage());
+        }
+
+        if (!backup.exists()) {
+            return config;
+        }
+
+        try {
+            config = new YamlConfiguration();
+            config.load(backup);
+            restore(file);
+            Logger.warning("Recovered " + file.getName() + " from its backup");
+        } catch (IOException | InvalidConfigurationException e) {
+            Logger.error("Failed to recover " + file.getName() + " from its backup", e);
+        }
+        return config;
+    }
+
+    /**
+     * Puts the backup back in place, so the next write keeps it as backup
+     * again instead of the damaged file.
+     */
+    private static void restore(File file) throws IOException {
+        Path target = file.toPath();
+        if (Files.exists(target)) {
+            Files.move(target, target.resolveSibling(file.getName() + CORRUPT_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.copy(backup(file), temp(file), StandardCopyOption.REPLACE_EXISTING);
+        Files.move(temp(file), target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Path temp(File file) {
+        return file.toPath().resolveSibling(file.getName() + TEMP_SUFFIX);
+    }
+
+    private static Path backup(File file) {
+        return file.toPath().resolveSibling(file.getName() + BACKUP_SUFFIX);
+    }
+}
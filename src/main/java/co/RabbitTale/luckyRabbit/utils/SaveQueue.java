@@ -0,0 +1,242 @@
+package co.RabbitTale.luckyRabbit.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+ * SaveQueue.java
+ *
+ * Single background thread that writes files for the main thread.
+ * Callers serialize on the main thread and hand over the finished text,
+ * so the worker never touches live plugin objects.
+ *
+ * Features:
+ * - Crash-safe writes through SafeFiles (temp file, atomic rename, backup)
+ * - Group commit: everything queued since the last batch is written together,
+ *   fsynced, renamed, and each directory is fsynced once per batch
+ * - Repeated saves of the same file are merged, only the latest is written
+ * - Queued contents can be read back before they reach the disk
+ * - Failed writes (e.g. disk full) are queued again and retried with a
+ *   growing delay, unless a newer save of the file replaced them
+ * - Blocking await for reload and shutdown
+ * - Falls back to writing inline once shut down
+ */
+public class SaveQueue {
+
+    private static final long AWAIT_SECONDS = 30;
+    private static final long MIN_RETRY_MILLIS = 1000;
+    private static final long MAX_RETRY_MILLIS = 60_000;
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final boolean sync;
+    // File -> contents, null contents = delete
+    private final Map<File, String> pending;
+    private final Map<File, String> writing;
+    private boolean scheduled;
+    private long retryMillis = MIN_RETRY_MILLIS;
+
+    /**
+     * Creates a new save queue.
+     *
+     * @param name Name of the worker thread
+     * @param sync Whether to fsync every batch before it replaces the files
+     */
+    public SaveQueue(String name, boolean sync) {
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Shutdown runs one last attempt right away instead of waiting for a retry
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.sync = sync;
+        this.pending = new LinkedHashMap<>();
+        this.writing = new LinkedHashMap<>();
+    }
+
+    /**
+     * Queues a file write, replacing any queued write of the same file.
+     *
+     * @param file Target file
+     * @param data Complete file contents
+     */
+    public void write(File file, String data) {
+        enqueue(file, data);
+    }
+
+    /**
+     * Queues a file deletion, ordered after any pending write to it.
+     *
+     * @param file File to delete
+     */
+    public void delete(File file) {
+        enqueue(file, null);
+    }
+
+    /**
+     * Gets contents that are queued but maybe not on disk yet.
+     *
+     * @param file File to check
+     * @return Latest queued contents, null if none (or a deletion is queued)
+     */
+    public String getPending(File file) {
+        synchronized (pending) {
+            return pending.containsKey(file) ? pending.get(file) : writing.get(file);
+        }
+    }
+
+    /**
+     * Blocks until everything queued so far has been written.
+     */
+    public void await() {
+        try {
+            executor.submit(() -> { }).get(AWAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            // Already shut down, nothing left to wait for
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            Logger.error("Timed out waiting for pending saves", e);
+        }
+    }
+
+    /**
+     * Writes everything still queued and stops the worker.
+     */
+    public void shutdown() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // Already shut down
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(AWAIT_SECONDS, TimeUnit.SECONDS)) {
+                Logger.error("Pending saves did not finish in time!");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(File file, String data) {
+        synchronized (pending) {
+            pending.put(file, data);
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+        }
+
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            drain();
+        }
+    }
+
+    /**
+     * Writes one batch: all temp files first, then all renames,
+     * then one fsync per directory.
+     */
+    private void drain() {
+        Map<File, String> batch;
+        synchronized (pending) {
+            batch = new LinkedHashMap<>(pending);
+            pending.clear();
+            writing.putAll(batch);
+            scheduled = false;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Set<File> written = new HashSet<>();
+        Map<File, String> failed = new LinkedHashMap<>();
+        for (Map.Entry<File, String> entry : batch.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            try {
+                SafeFiles.writeTemp(entry.getKey(), entry.getValue(), sync);
+                written.add(entry.getKey());
+            } catch (IOException e) {
+                Logger.error("Failed to save " + entry.getKey().getName(), e);
+                failed.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        Set<File> directories = new HashSet<>();
+        for (Map.Entry<File, String> entry : batch.entrySet()) {
+            File file = entry.getKey();
+            try {
+                if (entry.getValue() == null) {
+                    SafeFiles.delete(file);
+                } else if (written.contains(file)) {
+                    SafeFiles.commit(file);
+                } else {
+                    continue;
+                }
+                directories.add(file.getAbsoluteFile().getParentFile());
+            } catch (IOException e) {
+                Logger.error("Failed to " + (entry.getValue() == null ? "delete " : "save ") + file.getName(), e);
+                failed.put(file, entry.getValue());
+            }
+        }
+
+        if (sync) {
+            directories.forEach(SafeFiles::syncDirectory);
+        }
+
+        synchronized (pending) {
+            batch.keySet().forEach(writing::remove);
+            // A newer save of the same file wins over the failed one
+            failed.forEach((file, data) -> {
+                if (!pending.containsKey(file)) {
+                    pending.put(file, data);
+                }
+            });
+        }
+
+        if (failed.isEmpty()) {
+            retryMillis = MIN_RETRY_MILLIS;
+            Logger.debug("Saved " + batch.size() + " file(s) in one batch");
+        } else {
+            scheduleRetry(failed.size());
+        }
+    }
+
+    /**
+     * Drains again after a delay that doubles with every failed batch.
+     */
+    private void scheduleRetry(int count) {
+        long delay = retryMillis;
+        retryMillis = Math.min(retryMillis * 2, MAX_RETRY_MILLIS);
+        synchronized (pending) {
+            if (scheduled) {
+                // A newer save already scheduled a batch, it picks them up
+                return;
+            }
+            scheduled = true;
+        }
+
+        try {
+            executor.schedule(this::drain, delay, TimeUnit.MILLISECONDS);
+            Logger.warning("Retrying " + count + " failed save(s) in " + delay / 1000 + "s");
+        } catch (RejectedExecutionException e) {
+            synchronized (pending) {
+                scheduled = false;
+            }
+            Logger.error(count + " save(s) failed during shutdown, they stay queued until the next save");
+        }
+    }
+}